@@ -0,0 +1,89 @@
+package com.programming.dmaker.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.programming.dmaker.audit.AuditLog;
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-thread cost of the old per-request log line (synchronous logback
+ * file appender, flushed on every event) against handing an audit record to
+ * the ring buffer. Both write to a temp directory. The audit log blocks when
+ * the buffer is full, so once producers outrun the writer the score includes
+ * waiting for it instead of timing a dropped record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AuditLogBenchmark {
+    private final CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+            .developerLevel(DeveloperLevel.JUNIOR)
+            .developerSkillType(DeveloperSkillType.BACK_END)
+            .experienceYears(3)
+            .memberId("member")
+            .name("jimmy")
+            .age(28)
+            .build();
+
+    private Path directory;
+    private Logger logger;
+    private FileAppender<ILoggingEvent> appender;
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-benchmark");
+
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        appender = new FileAppender<>();
+        appender.setContext(loggerContext);
+        appender.setFile(directory.resolve("request.log").toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        logger = loggerContext.getLogger("com.programming.dmaker.controller.DMakerController");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+
+        auditLog = new AuditLog(directory.resolve("audit.log"), 8192, 512,
+                100L * 1024 * 1024, 1, AuditLog.OverflowPolicy.BLOCK);
+        auditLog.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        auditLog.close();
+        appender.stop();
+    }
+
+    @Benchmark
+    public void synchronousRequestLog() {
+        logger.info("request: {}", request);
+    }
+
+    @Benchmark
+    public void auditRecord() {
+        auditLog.record("createDeveloper", request.getMemberId(), 1_000, "SUCCESS");
+    }
+}
@@ -0,0 +1,66 @@
+package com.programming.dmaker.benchmark;
+
+import com.programming.dmaker.DmakerApplication;
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.service.DMakerService;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BenchmarkApplication {
+    private static final int SEED_CHUNK_SIZE = 10_000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.use_sql_comments=false",
+                "logging.level.root=WARN"
+        ));
+        defaults.addAll(List.of(properties));
+
+        return new SpringApplicationBuilder(DmakerApplication.class)
+                .web(webApplicationType)
+                .properties(defaults.toArray(new String[0]))
+                .run();
+    }
+
+    public static void seed(DMakerService dMakerService, int count) {
+        for (int from = 0; from < count; from += SEED_CHUNK_SIZE) {
+            List<CreateDeveloper.Request> requests = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_CHUNK_SIZE, count); i++) {
+                requests.add(createRequest(memberId(i)));
+            }
+            dMakerService.createDevelopers(requests);
+        }
+    }
+
+    public static String memberId(int index) {
+        return "member" + index;
+    }
+
+    public static CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(5)
+                .memberId(memberId)
+                .name("developer")
+                .age(30)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.programming.dmaker.benchmark;
+
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.EditDeveloper;
+import com.programming.dmaker.entity.Developer;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.service.DMakerService;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DMakerServiceBenchmark {
+    private static final int TABLE_SIZE = 10_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private DeveloperRepository developerRepository;
+
+    private final EditDeveloper.Request editRequest = EditDeveloper.Request.builder()
+            .developerLevel(DeveloperLevel.SENIOR)
+            .developerSkillType(DeveloperSkillType.FULL_STACK)
+            .experienceYears(15)
+            .build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        dMakerService = context.getBean(DMakerService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+
+        BenchmarkApplication.seed(dMakerService, TABLE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static String randomMemberId() {
+        return BenchmarkApplication.memberId(ThreadLocalRandom.current().nextInt(TABLE_SIZE));
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloper() {
+        return dMakerService.createDeveloper(
+                BenchmarkApplication.createRequest("created" + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetail() {
+        return dMakerService.getDeveloperDetail(randomMemberId());
+    }
+
+    @Benchmark
+    public Optional<DeveloperDetailDto> getDeveloperDetailFromDatabase() {
+        return developerRepository.findDeveloperDetailByMemberId(randomMemberId());
+    }
+
+    @Benchmark
+    public Optional<Developer> getDeveloperEntity() {
+        return developerRepository.findByMemberId(randomMemberId());
+    }
+
+    @Benchmark
+    public DeveloperDetailDto editDeveloper() {
+        return dMakerService.editDeveloper(randomMemberId(), editRequest);
+    }
+
+    // every invocation retires a freshly created developer
+    @Benchmark
+    public DeveloperDetailDto deleteDeveloper() {
+        String memberId = "retired" + sequence.incrementAndGet();
+        dMakerService.createDeveloper(BenchmarkApplication.createRequest(memberId));
+        return dMakerService.deleteDeveloper(memberId);
+    }
+}
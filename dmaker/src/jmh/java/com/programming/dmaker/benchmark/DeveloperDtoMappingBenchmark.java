@@ -0,0 +1,43 @@
+package com.programming.dmaker.benchmark;
+
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.entity.Developer;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperDtoMappingBenchmark {
+    private final Developer developer = Developer.builder()
+            .id(1L)
+            .developerLevel(DeveloperLevel.SENIOR)
+            .developerSkillType(DeveloperSkillType.BACK_END)
+            .experienceYears(12)
+            .memberId("member1")
+            .name("developer")
+            .age(35)
+            .statusCode(StatusCode.EMPLOYED)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+
+    @Benchmark
+    public DeveloperDto developerDtoFromEntity() {
+        return DeveloperDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto developerDetailDtoFromEntity() {
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+}
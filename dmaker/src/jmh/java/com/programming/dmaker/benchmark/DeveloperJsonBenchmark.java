@@ -0,0 +1,78 @@
+package com.programming.dmaker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.json.DeveloperJsonComponent;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperJsonBenchmark {
+    // nullOutputStream() refuses writes once ObjectMapper has closed it
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Param({"1000"})
+    private int size;
+
+    private List<DeveloperDto> developers;
+    private ObjectMapper beanObjectMapper;
+    private ObjectMapper objectMapper;
+    private ObjectMapper smileObjectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        developers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            developers.add(DeveloperDto.builder()
+                    .developerLevel(DeveloperLevel.values()[i % DeveloperLevel.values().length])
+                    .developerSkillType(DeveloperSkillType.values()[i % DeveloperSkillType.values().length])
+                    .memberId(BenchmarkApplication.memberId(i))
+                    .build());
+        }
+
+        SimpleModule serializers = new SimpleModule()
+                .addSerializer(new DeveloperJsonComponent.DeveloperDtoSerializer())
+                .addSerializer(new DeveloperJsonComponent.DeveloperDetailDtoSerializer());
+        beanObjectMapper = new ObjectMapper();
+        objectMapper = new ObjectMapper().registerModules(new BlackbirdModule(), serializers);
+        smileObjectMapper = new ObjectMapper(new SmileFactory()).registerModules(new BlackbirdModule(), serializers);
+    }
+
+    @Benchmark
+    public void beanSerialization() throws IOException {
+        beanObjectMapper.writeValue(DISCARD, developers);
+    }
+
+    @Benchmark
+    public void registeredSerializers() throws IOException {
+        objectMapper.writeValue(DISCARD, developers);
+    }
+
+    @Benchmark
+    public void registeredSerializersSmile() throws IOException {
+        smileObjectMapper.writeValue(DISCARD, developers);
+    }
+}
@@ -0,0 +1,60 @@
+package com.programming.dmaker.benchmark;
+
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.service.DMakerService;
+import com.programming.dmaker.type.StatusCode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeveloperListBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private DeveloperRepository developerRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        dMakerService = context.getBean(DMakerService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        BenchmarkApplication.seed(dMakerService, tableSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getAllDevelopers() {
+        return dMakerService.getAllDevelopers();
+    }
+
+    // entity hydration + fromEntity, the read path before projections
+    @Benchmark
+    public List<DeveloperDto> getAllDevelopersFromEntities() {
+        return readOnlyTransaction.execute(status -> developerRepository
+                .findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
+                .stream().map(DeveloperDto::fromEntity)
+                .collect(Collectors.toList()));
+    }
+}
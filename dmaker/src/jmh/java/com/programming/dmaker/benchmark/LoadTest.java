@@ -0,0 +1,168 @@
+package com.programming.dmaker.benchmark;
+
+import com.programming.dmaker.dto.DeveloperCursor;
+import com.programming.dmaker.service.DMakerService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing the sync and async execution modes.
+ * Every client thread repeatedly fetches a developer page, so each request
+ * holds a JDBC connection for the duration of the query.
+ *
+ * usage: LoadTest [clients] [durationSeconds] [modes...]
+ */
+public class LoadTest {
+    private static final int SEED_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+        List<String> modes = args.length > 2
+                ? Arrays.asList(args).subList(2, args.length)
+                : List.of("sync", "async");
+
+        List<String> results = new ArrayList<>();
+        for (String mode : modes) {
+            results.add(run(mode, clients, duration));
+        }
+
+        System.out.printf("%n%-6s %8s %12s %10s %10s %10s %8s%n",
+                "mode", "clients", "throughput", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        results.forEach(System.out::println);
+    }
+
+    private static String run(String mode, int clients, Duration duration) throws InterruptedException {
+        ConfigurableApplicationContext context = BenchmarkApplication.start(
+                WebApplicationType.SERVLET,
+                "server.port=0",
+                "server.tomcat.max-connections=" + (clients * 2),
+                "server.tomcat.accept-count=" + clients,
+                "dmaker.execution.mode=" + mode
+        );
+        try {
+            BenchmarkApplication.seed(context.getBean(DMakerService.class), SEED_SIZE);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            runClients(port, clients, WARMUP);
+            Result result = runClients(port, clients, duration);
+            return result.format(mode, clients, duration);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result runClients(int port, int clients, Duration duration) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long[][] latencies = new long[clients][];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            int client = i;
+            Thread thread = new Thread(() -> {
+                LongList samples = new LongList();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(
+                                    pageRequest(port), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        samples.add(System.nanoTime() - start);
+                    }
+                } finally {
+                    latencies[client] = samples.toArray();
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.get());
+    }
+
+    private static HttpRequest pageRequest(int port) {
+        String cursor = DeveloperCursor.encode(
+                (long) ThreadLocalRandom.current().nextInt(SEED_SIZE - PAGE_SIZE));
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/developers?size=" + PAGE_SIZE + "&cursor=" + cursor))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private static class Result {
+        private final long[] sortedLatencies;
+        private final long errors;
+
+        private Result(long[] sortedLatencies, long errors) {
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+        }
+
+        private String format(String mode, int clients, Duration duration) {
+            double throughput = sortedLatencies.length / (double) duration.toSeconds();
+            return String.format("%-6s %8d %10.1f/s %10.2f %10.2f %10.2f %8d",
+                    mode, clients, throughput,
+                    millis(percentile(0.50)), millis(percentile(0.99)),
+                    millis(percentile(1.0)), errors);
+        }
+
+        private long percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private static class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.programming.dmaker.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the application in a fresh JVM per run and reports the time until
+ * "Started DmakerApplication" (JVM start included) and the resident set size
+ * once started. RSS is read from /proc, so that column is Linux only.
+ * <p>
+ * The CDS mode needs the archive built by the cdsArchive task against the
+ * same classpath that is passed in here.
+ *
+ * usage: StartupBenchmark appClasspath cdsArchive [iterations]
+ */
+public class StartupBenchmark {
+    private static final Pattern STARTED = Pattern.compile(
+            "Started DmakerApplication in [\\d.]+ seconds \\(JVM running for ([\\d.]+)\\)");
+    private static final long START_TIMEOUT_SECONDS = 120;
+
+    public static void main(String[] args) throws Exception {
+        String appClasspath = args[0];
+        Path cdsArchive = Paths.get(args[1]);
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("default", List.of(), List.of()));
+        modes.add(new Mode("prod", List.of(), List.of("--spring.profiles.active=prod")));
+        if (Files.exists(cdsArchive)) {
+            modes.add(new Mode("prod+cds",
+                    List.of("-Xshare:auto", "-XX:SharedArchiveFile=" + cdsArchive),
+                    List.of("--spring.profiles.active=prod")));
+        } else {
+            System.out.println("no CDS archive at " + cdsArchive + ", skipping prod+cds");
+        }
+
+        List<String> results = new ArrayList<>();
+        for (Mode mode : modes) {
+            // first run warms the OS page cache and is not counted
+            start(appClasspath, mode);
+            double[] startupMillis = new double[iterations];
+            double[] rssMegabytes = new double[iterations];
+            for (int i = 0; i < iterations; i++) {
+                Sample sample = start(appClasspath, mode);
+                startupMillis[i] = sample.startupMillis;
+                rssMegabytes[i] = sample.rssKilobytes / 1024d;
+            }
+            results.add(String.format("%-9s %12.0f %12.0f %10.1f",
+                    mode.name, median(startupMillis), min(startupMillis), median(rssMegabytes)));
+        }
+
+        System.out.printf("%n%-9s %12s %12s %10s%n", "mode", "p50(ms)", "min(ms)", "rss(MB)");
+        results.forEach(System.out::println);
+    }
+
+    private static Sample start(String appClasspath, Mode mode) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs);
+        command.add("-cp");
+        command.add(appClasspath);
+        command.add("com.programming.dmaker.DmakerApplication");
+        command.add("--server.port=0");
+        command.addAll(mode.appArgs);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(START_TIMEOUT_SECONDS);
+            String line;
+            while ((line = reader.readLine()) != null && System.nanoTime() < deadline) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    double startupMillis = Double.parseDouble(matcher.group(1)) * 1000;
+                    return new Sample(startupMillis, rss(process.pid()));
+                }
+            }
+            throw new IllegalStateException(mode.name + " did not start: " + command);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static long rss(long pid) throws IOException {
+        Path status = Paths.get("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1
+                ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static double min(double[] values) {
+        return Arrays.stream(values).min().orElse(0);
+    }
+
+    private static class Mode {
+        private final String name;
+        private final List<String> jvmArgs;
+        private final List<String> appArgs;
+
+        private Mode(String name, List<String> jvmArgs, List<String> appArgs) {
+            this.name = name;
+            this.jvmArgs = jvmArgs;
+            this.appArgs = appArgs;
+        }
+    }
+
+    private static class Sample {
+        private final double startupMillis;
+        private final long rssKilobytes;
+
+        private Sample(double startupMillis, long rssKilobytes) {
+            this.startupMillis = startupMillis;
+            this.rssKilobytes = rssKilobytes;
+        }
+    }
+}
@@ -2,11 +2,17 @@ package com.programming.dmaker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class DmakerApplication {
     
     public static void main(String[] args) {
-        SpringApplication.run(DmakerApplication.class, args);
+        ConfigurableApplicationContext context =
+                SpringApplication.run(DmakerApplication.class, args);
+        // training run for the CDS archive: load what startup loads, then leave
+        if (Boolean.getBoolean("dmaker.exit-after-startup")) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
@@ -0,0 +1,38 @@
+package com.programming.dmaker.admission;
+
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Identifies the caller for per-client limits and state. An authenticated
+ * principal wins; the client id header is only believed when the request
+ * comes through one of the trusted proxies, since anyone else can rotate it
+ * freely. Everything else is keyed on the remote address.
+ */
+public class ClientKeyResolver {
+    private final String clientIdHeader;
+    private final Set<String> trustedProxies;
+
+    public ClientKeyResolver(String clientIdHeader, Collection<String> trustedProxies) {
+        this.clientIdHeader = clientIdHeader;
+        this.trustedProxies = new HashSet<>(trustedProxies);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        String remoteAddr = request.getRemoteAddr();
+        String clientId = request.getHeader(clientIdHeader);
+        if (StringUtils.hasText(clientId) && trustedProxies.contains(remoteAddr)) {
+            return "client:" + clientId;
+        }
+        return "addr:" + remoteAddr;
+    }
+}
@@ -0,0 +1,57 @@
+package com.programming.dmaker.admission;
+
+import com.programming.dmaker.config.DMakerProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per client key. Full buckets are dropped on cleanup since a
+ * fresh bucket behaves the same, which keeps the map down to clients that
+ * were active recently. Past max-clients the least recently used bucket is
+ * evicted, so a newcomer always gets a bucket of its own.
+ */
+public class ClientRateLimiter {
+    private final DMakerProperties.RateLimit settings;
+    private final LongSupplier nanoClock;
+    private final Map<String, TokenBucket> buckets;
+
+    public ClientRateLimiter(DMakerProperties.RateLimit settings) {
+        this(settings, System::nanoTime);
+    }
+
+    ClientRateLimiter(DMakerProperties.RateLimit settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > settings.getMaxClients();
+            }
+        };
+    }
+
+    /**
+     * Returns {@link Duration#ZERO} when the call may go ahead, otherwise how
+     * long the client should wait before trying again.
+     */
+    public synchronized Duration tryAcquire(String clientKey) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.computeIfAbsent(clientKey, k -> new TokenBucket(
+                settings.getCapacity(), settings.getRefillPerSecond(), now));
+        return Duration.ofNanos(bucket.tryConsume(now));
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.rate-limit.cleanup-interval:PT1M}")
+    public synchronized void removeIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    synchronized int getClientCount() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.programming.dmaker.admission;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of writes running at once so they cannot take every pooled
+ * connection away from reads. A write that finds no permit waits up to
+ * max-wait for one and is then rejected with TOO_MANY_REQUESTS.
+ * <p>
+ * Ordered inside the metrics and audit aspects, so rejections are timed and
+ * audited, and outside the transaction advice, so a waiting write holds no
+ * connection.
+ */
+@Aspect
+@Component
+@Order(2)
+public class WriteAdmissionAspect {
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final DMakerProperties.Admission settings;
+    private final MeterRegistry meterRegistry;
+
+    public WriteAdmissionAspect(DMakerProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getAdmission();
+        this.permits = new Semaphore(settings.getMaxConcurrentWrites(), true);
+        this.maxWaitNanos = settings.getMaxWait().toNanos();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("dmaker.admission.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(com.programming.dmaker.admission.WriteOperation)")
+    public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+        acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            count("accepted");
+            return;
+        }
+        if (maxWaitNanos > 0 && permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            count("queued");
+            return;
+        }
+        count("rejected");
+        throw new DMakerException(DMakerErrorCode.TOO_MANY_REQUESTS, settings.getRetryAfter());
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("dmaker.admission", "result", result).increment();
+    }
+}
@@ -0,0 +1,16 @@
+package com.programming.dmaker.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method that writes developers. Calls go through
+ * {@link WriteAdmissionAspect} and are turned away when too many writes are
+ * already running.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WriteOperation {
+}
@@ -0,0 +1,55 @@
+package com.programming.dmaker.admission;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+/**
+ * Per-client token bucket on unsafe methods. See {@link ClientKeyResolver}
+ * for how the client is identified.
+ */
+@RequiredArgsConstructor
+public class WriteRateLimitInterceptor implements HandlerInterceptor {
+    private final ClientRateLimiter clientRateLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler
+    ) {
+        // async dispatches re-enter the interceptor chain for a request already admitted
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !isWrite(request)) {
+            return true;
+        }
+        Duration retryAfter = clientRateLimiter.tryAcquire(clientKeyResolver.resolve(request));
+        if (retryAfter.isZero()) {
+            count("accepted");
+            return true;
+        }
+        count("rejected");
+        throw new DMakerException(DMakerErrorCode.TOO_MANY_REQUESTS, retryAfter);
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        switch (request.getMethod()) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("dmaker.rate-limit", "result", result).increment();
+    }
+}
@@ -0,0 +1,67 @@
+package com.programming.dmaker.archive;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.type.StatusCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves developers that have been retired for a while from the hot
+ * developer table into archived_developer. Each chunk is its own short
+ * transaction, so row locks are held for one INSERT ... SELECT and one
+ * DELETE at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperArchiver {
+    private final DeveloperRepository developerRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DMakerProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(
+            initialDelayString = "${dmaker.archive.interval:PT10M}",
+            fixedDelayString = "${dmaker.archive.interval:PT10M}")
+    public int archiveRetiredDevelopers() {
+        DMakerProperties.Archive archive = properties.getArchive();
+        LocalDateTime cutoff = LocalDateTime.now().minus(archive.getRetiredFor());
+
+        int archived = 0;
+        for (int chunk = 0; chunk < archive.getMaxChunksPerRun(); chunk++) {
+            Integer moved = transactionTemplate.execute(
+                    status -> archiveChunk(cutoff, archive.getChunkSize()));
+            archived += moved;
+            if (moved < archive.getChunkSize()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("archived {} retired developers", archived);
+        }
+        return archived;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = developerRepository.findIdsToArchiveForUpdate(
+                StatusCode.RETIRED, cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        archivedDeveloperRepository.insertFromDevelopers(ids, now);
+        developerRepository.deleteByIds(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.programming.dmaker.audit;
+
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.exception.DMakerException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records one audit line per write. Ordered outside admission control so
+ * writes turned away for load are audited too.
+ */
+@Aspect
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class AuditAspect {
+    private static final String SUCCESS = "SUCCESS";
+
+    private final AuditLog auditLog;
+
+    @Around("@annotation(com.programming.dmaker.admission.WriteOperation)")
+    public Object audit(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (DMakerException e) {
+            outcome = e.getDMakerErrorCode().name();
+            throw e;
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            auditLog.record(joinPoint.getSignature().getName(), memberId(joinPoint.getArgs()),
+                    System.nanoTime() - startedAt, outcome);
+        }
+    }
+
+    // bulk operations carry many memberIds and are recorded without one
+    private static String memberId(Object[] args) {
+        if (args.length == 0) {
+            return null;
+        }
+        if (args[0] instanceof String) {
+            return (String) args[0];
+        }
+        if (args[0] instanceof CreateDeveloper.Request) {
+            return ((CreateDeveloper.Request) args[0]).getMemberId();
+        }
+        return null;
+    }
+}
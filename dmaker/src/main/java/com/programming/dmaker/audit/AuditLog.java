@@ -0,0 +1,175 @@
+package com.programming.dmaker.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of developer writes, one JSON line per call. Request threads
+ * only put the record into a ring buffer; a single background thread formats
+ * and appends batches to a rolling file. When the buffer is full the record
+ * is dropped (and counted) or the caller waits for room, depending on the
+ * overflow policy.
+ * <p>
+ * An idle writer parks until a producer finds it idle and unparks it, so a
+ * quiet service does not wake the thread at all; a busy one never parks.
+ */
+@Slf4j
+public class AuditLog implements AutoCloseable {
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private final AuditRingBuffer buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final RollingFileChannel file;
+    private final StringBuilder batch = new StringBuilder();
+    private int batchRecords;
+    private final Thread writer;
+    private volatile boolean running;
+    private volatile boolean idle;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public AuditLog(
+            Path path, int bufferSize, int batchSize, long maxFileSize, int maxHistory,
+            OverflowPolicy overflowPolicy
+    ) throws IOException {
+        this.buffer = new AuditRingBuffer(bufferSize);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.file = new RollingFileChannel(path, maxFileSize, maxHistory);
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    public void record(String operation, String memberId, long durationNanos, String outcome) {
+        long timestamp = System.currentTimeMillis();
+        if (buffer.offer(timestamp, operation, memberId, durationNanos, outcome)) {
+            wakeWriter();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            while (running) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(timestamp, operation, memberId, durationNanos, outcome)) {
+                    wakeWriter();
+                    return;
+                }
+            }
+        }
+        droppedCount.increment();
+    }
+
+    private void wakeWriter() {
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeLoop() {
+        while (running || buffer.size() > 0) {
+            int drained = buffer.drain(this::append, batchSize);
+            flush();
+            if (drained == 0) {
+                awaitRecords();
+            }
+        }
+        flush();
+    }
+
+    // idle is set before the buffer is checked again and producers read it
+    // after their offer, so either the writer sees the record or the producer
+    // sees the writer idle and unparks it
+    private void awaitRecords() {
+        idle = true;
+        try {
+            while (running && buffer.size() == 0) {
+                LockSupport.park(this);
+            }
+        } finally {
+            idle = false;
+        }
+    }
+
+    private void append(
+            long timestamp, String operation, String memberId, long durationNanos, String outcome
+    ) {
+        batch.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(timestamp))
+                .append("\",\"operation\":\"").append(operation).append('"');
+        if (memberId != null) {
+            batch.append(",\"memberId\":\"");
+            appendEscaped(memberId);
+            batch.append('"');
+        }
+        batch.append(",\"durationMicros\":").append(TimeUnit.NANOSECONDS.toMicros(durationNanos))
+                .append(",\"outcome\":\"").append(outcome).append("\"}\n");
+        batchRecords++;
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                batch.append('\\').append(c);
+            } else if (c < 0x20) {
+                batch.append(String.format("\\u%04x", (int) c));
+            } else {
+                batch.append(c);
+            }
+        }
+    }
+
+    private void flush() {
+        if (batch.length() == 0) {
+            return;
+        }
+        try {
+            file.write(ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8)));
+            writtenCount.add(batchRecords);
+        } catch (IOException e) {
+            droppedCount.add(batchRecords);
+            log.error("failed to write {} audit records", batchRecords, e);
+        } finally {
+            batch.setLength(0);
+            batchRecords = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        file.close();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public int getQueueSize() {
+        return buffer.size();
+    }
+}
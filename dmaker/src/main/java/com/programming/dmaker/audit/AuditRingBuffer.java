@@ -0,0 +1,96 @@
+package com.programming.dmaker.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of audit records. Producers
+ * claim a slot with one CAS on the tail and publish it through the slot's
+ * sequence number, so offer never blocks and never allocates; the record
+ * fields live in preallocated parallel arrays.
+ */
+class AuditRingBuffer {
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    private final long[] timestamps;
+    private final String[] operations;
+    private final String[] memberIds;
+    private final long[] durationNanos;
+    private final String[] outcomes;
+
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.timestamps = new long[size];
+        this.operations = new String[size];
+        this.memberIds = new String[size];
+        this.durationNanos = new long[size];
+        this.outcomes = new String[size];
+    }
+
+    boolean offer(long timestamp, String operation, String memberId, long duration, String outcome) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    timestamps[index] = timestamp;
+                    operations[index] = operation;
+                    memberIds[index] = memberId;
+                    durationNanos[index] = duration;
+                    outcomes[index] = outcome;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hands up to maxRecords published records to the consumer in order and
+     * returns how many there were. Only the writer thread may call this.
+     */
+    int drain(Consumer consumer, int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            consumer.accept(timestamps[index], operations[index], memberIds[index],
+                    durationNanos[index], outcomes[index]);
+            operations[index] = null;
+            memberIds[index] = null;
+            outcomes[index] = null;
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    interface Consumer {
+        void accept(long timestamp, String operation, String memberId, long durationNanos, String outcome);
+    }
+}
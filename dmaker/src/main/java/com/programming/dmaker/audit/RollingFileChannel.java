@@ -0,0 +1,71 @@
+package com.programming.dmaker.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends to a file and rolls it over by size: audit.log becomes audit.log.1,
+ * audit.log.1 becomes audit.log.2 and so on, keeping maxHistory old files.
+ * Rolls only between batches, so a batch never straddles two files.
+ */
+class RollingFileChannel implements AutoCloseable {
+    private final Path path;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private FileChannel channel;
+
+    RollingFileChannel(Path path, long maxFileSize, int maxHistory) throws IOException {
+        this.path = path;
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = open();
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        if (channel.size() > 0 && channel.size() + buffer.remaining() > maxFileSize) {
+            roll();
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void roll() throws IOException {
+        channel.close();
+        Files.deleteIfExists(archived(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            if (Files.exists(archived(i))) {
+                Files.move(archived(i), archived(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxHistory > 0) {
+            Files.move(path, archived(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(path);
+        }
+        channel = open();
+    }
+
+    private Path archived(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,15 @@
+package com.programming.dmaker.cache;
+
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@ToString
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+    private final long coalescedCount;
+}
@@ -0,0 +1,33 @@
+package com.programming.dmaker.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Table-level change version for list validators, taken from the shared
+ * outbox sequence. Every instance that has followed the outbox to the same
+ * sequence hands out the same tag, so a poller behind a load balancer keeps
+ * getting 304s whichever instance answers.
+ * <p>
+ * {@link com.programming.dmaker.outbox.DeveloperOutboxFollower} advances it
+ * only after the local publishers (caches, read model) have applied the
+ * batch, so a tag is never newer than what the instance serves with it.
+ * Local writes show up once the relay has given them a sequence.
+ */
+@Component
+public class DeveloperChangeTracker {
+    private volatile DeveloperChangeVersion current =
+            new DeveloperChangeVersion("0", Instant.EPOCH);
+
+    public void advance(long sequence, LocalDateTime changedAt) {
+        current = new DeveloperChangeVersion(Long.toString(sequence),
+                changedAt == null ? Instant.EPOCH : changedAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public DeveloperChangeVersion current() {
+        return current;
+    }
+}
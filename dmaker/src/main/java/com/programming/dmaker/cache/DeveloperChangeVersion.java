@@ -0,0 +1,15 @@
+package com.programming.dmaker.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class DeveloperChangeVersion {
+    private final String tag;
+    private final Instant lastModified;
+}
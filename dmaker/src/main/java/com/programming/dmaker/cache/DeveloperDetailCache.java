@@ -0,0 +1,33 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.dto.DeveloperDetailDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for developer details keyed by memberId.
+ * An empty Optional is cached as well, so repeated lookups of unknown
+ * memberIds don't reach the database either.
+ */
+public interface DeveloperDetailCache {
+    Optional<DeveloperDetailDto> get(
+            String memberId, Function<String, Optional<DeveloperDetailDto>> loader);
+
+    /**
+     * Looks up many memberIds at once. The loader is called at most once, with
+     * the memberIds that missed, and returns the details it found; the ones it
+     * leaves out are cached as absent. The result follows the given order.
+     */
+    Map<String, Optional<DeveloperDetailDto>> getAll(
+            Collection<String> memberIds,
+            Function<Collection<String>, Map<String, DeveloperDetailDto>> loader);
+
+    void evict(String memberId);
+
+    void clear();
+
+    CacheStats getStats();
+}
@@ -0,0 +1,34 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import com.programming.dmaker.outbox.DeveloperChangePublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Evicts local writes right after commit, and every instance's writes once
+ * the outbox follower reads them back, so a remote edit is stale here for
+ * about one relay interval instead of the cache TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeveloperDetailCacheInvalidator implements DeveloperChangePublisher {
+    private final DeveloperDetailCache developerDetailCache;
+
+    @TransactionalEventListener
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        developerDetailCache.evict(event.getMemberId());
+    }
+
+    @Override
+    public void publish(List<DeveloperChangeMessage> messages) {
+        messages.stream()
+                .map(DeveloperChangeMessage::getMemberId)
+                .distinct()
+                .forEach(developerDetailCache::evict);
+    }
+}
@@ -0,0 +1,138 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import com.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import com.programming.dmaker.repository.DeveloperRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Answers "definitely not a developer" for memberIds that were never created,
+ * so lookups of made-up ids skip the cache and the database. Until the first
+ * build finishes every id is reported as possibly present.
+ * <p>
+ * Ids are added when the CREATED event is published, before the row can be
+ * seen by another transaction, and again after commit so a rebuild that
+ * started in between does not lose them. A memberId stays in the filter for
+ * good; retiring and archiving keep the row readable.
+ * <p>
+ * Ids created by other instances are followed from the shared outbox on the
+ * relay interval, so they can be reported missing for at most about one
+ * interval after commit. Rows inserted around the outbox are only picked up
+ * by the next rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperMemberIdFilter {
+    private final DeveloperRepository developerRepository;
+    private final DeveloperOutboxEventRepository developerOutboxEventRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DMakerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile MemberIdBloomFilter current;
+    private volatile MemberIdBloomFilter building;
+    private long followedSequence;
+
+    public boolean mightContain(String memberId) {
+        MemberIdBloomFilter filter = current;
+        if (filter == null || filter.mightContain(memberId)) {
+            return true;
+        }
+        meterRegistry.counter("dmaker.member-filter.rejections").increment();
+        return false;
+    }
+
+    @EventListener
+    public void onDeveloperCreating(DeveloperChangedEvent event) {
+        if (event.getChangeType() == DeveloperChangeType.CREATED) {
+            put(event.getMemberId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDeveloperCreated(DeveloperChangedEvent event) {
+        if (event.getChangeType() == DeveloperChangeType.CREATED) {
+            put(event.getMemberId());
+        }
+    }
+
+    // building is read before current: rebuild publishes current before it
+    // clears building, so the id always lands in the filter that survives
+    private void put(String memberId) {
+        MemberIdBloomFilter next = building;
+        MemberIdBloomFilter filter = current;
+        if (next != null) {
+            next.put(memberId);
+        }
+        if (filter != null) {
+            filter.put(memberId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        DMakerProperties.MemberFilter settings = properties.getMemberFilter();
+        long expected = Math.max(settings.getExpectedInsertions(),
+                current == null ? 0 : current.getInsertions() * 2);
+        MemberIdBloomFilter next =
+                new MemberIdBloomFilter(expected, settings.getFalsePositiveProbability());
+        building = next;
+        try {
+            // read before the scan: anything relayed up to here is in the tables
+            long sequence = developerOutboxEventRepository.findMaxPublishedSequence();
+            // hot table first: a row archived mid-scan is then found in the archive
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> memberIds = developerRepository.streamAllMemberIds()) {
+                    memberIds.forEach(next::put);
+                }
+                try (Stream<String> memberIds = archivedDeveloperRepository.streamAllMemberIds()) {
+                    memberIds.forEach(next::put);
+                }
+            });
+            current = next;
+            followedSequence = sequence;
+        } finally {
+            building = null;
+        }
+        log.info("memberId filter rebuilt with {} ids, {} bits, {} hashes",
+                next.getInsertions(), next.getBitCount(), next.getHashCount());
+    }
+
+    // unrelayed events are read as well, so a committed create shows up on
+    // the next run even before the relay hands it a sequence
+    @Scheduled(fixedDelayString = "${dmaker.outbox.relay-interval:PT1S}")
+    public synchronized void follow() {
+        MemberIdBloomFilter filter = current;
+        if (filter == null) {
+            return;
+        }
+        long sequence = developerOutboxEventRepository.findMaxPublishedSequence();
+        developerOutboxEventRepository
+                .findMemberIdsSince(DeveloperChangeType.CREATED, followedSequence)
+                .forEach(filter::put);
+        followedSequence = sequence;
+    }
+
+    // resizes the filter as the table grows so the false positive rate holds
+    @Scheduled(
+            initialDelayString = "${dmaker.member-filter.rebuild-interval:PT6H}",
+            fixedDelayString = "${dmaker.member-filter.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+}
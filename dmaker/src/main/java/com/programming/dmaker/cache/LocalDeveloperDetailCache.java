@@ -0,0 +1,204 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import lombok.EqualsAndHashCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public class LocalDeveloperDetailCache implements DeveloperDetailCache {
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries;
+    // a memberId's generation moves on when it is evicted, so a load that raced
+    // with a write to it is not cached; memberIds without one share the
+    // generation of the last clear. Bounded by falling back to a clear of the
+    // generations, which only costs the loads in flight.
+    private final Map<String, Long> generations = new HashMap<>();
+    private long clock;
+    private long clearedGeneration;
+    // only loads started in the same generation are shared, so a caller never
+    // joins a load that may have read the row before a write it already saw
+    private final SingleFlight<LoadKey, Optional<DeveloperDetailDto>> loads =
+            new SingleFlight<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LocalDeveloperDetailCache(int maximumSize, Duration ttl, Duration negativeTtl) {
+        this(maximumSize, ttl, negativeTtl, System::nanoTime);
+    }
+
+    LocalDeveloperDetailCache(
+            int maximumSize, Duration ttl, Duration negativeTtl, LongSupplier nanoClock
+    ) {
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > LocalDeveloperDetailCache.this.maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Optional<DeveloperDetailDto> get(
+            String memberId, Function<String, Optional<DeveloperDetailDto>> loader
+    ) {
+        Entry entry = lookup(memberId);
+        if (entry != null) {
+            hitCount.increment();
+            return entry.value;
+        }
+
+        missCount.increment();
+        long loadGeneration = generation(memberId);
+        return loads.execute(new LoadKey(memberId, loadGeneration), () -> {
+            Optional<DeveloperDetailDto> value = loader.apply(memberId);
+            put(memberId, value, loadGeneration);
+            return value;
+        });
+    }
+
+    // misses are not coalesced with concurrent single loads; the batch query
+    // already costs one round trip however many of them there are
+    @Override
+    public Map<String, Optional<DeveloperDetailDto>> getAll(
+            Collection<String> memberIds,
+            Function<Collection<String>, Map<String, DeveloperDetailDto>> loader
+    ) {
+        Map<String, Optional<DeveloperDetailDto>> result = new LinkedHashMap<>();
+        List<String> missed = new ArrayList<>();
+        for (String memberId : memberIds) {
+            Entry entry = lookup(memberId);
+            if (entry != null) {
+                result.put(memberId, entry.value);
+            } else {
+                missed.add(memberId);
+                result.put(memberId, Optional.empty());
+            }
+        }
+        hitCount.add(memberIds.size() - missed.size());
+        if (missed.isEmpty()) {
+            return result;
+        }
+
+        missCount.add(missed.size());
+        Map<String, Long> loadGenerations = generations(missed);
+        Map<String, DeveloperDetailDto> loaded = loader.apply(missed);
+        for (String memberId : missed) {
+            Optional<DeveloperDetailDto> value = Optional.ofNullable(loaded.get(memberId));
+            put(memberId, value, loadGenerations.get(memberId));
+            result.put(memberId, value);
+        }
+        return result;
+    }
+
+    private synchronized Entry lookup(String memberId) {
+        Entry entry = entries.get(memberId);
+        if (entry != null && entry.expiresAt - nanoClock.getAsLong() <= 0) {
+            entries.remove(memberId);
+            evictionCount.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void put(
+            String memberId, Optional<DeveloperDetailDto> value, long loadGeneration
+    ) {
+        if (loadGeneration != generation(memberId)) {
+            return;
+        }
+        long ttl = value.isPresent() ? ttlNanos : negativeTtlNanos;
+        entries.put(memberId, new Entry(value, nanoClock.getAsLong() + ttl));
+    }
+
+    private synchronized long generation(String memberId) {
+        return generations.getOrDefault(memberId, clearedGeneration);
+    }
+
+    private synchronized Map<String, Long> generations(Collection<String> memberIds) {
+        Map<String, Long> result = new HashMap<>();
+        for (String memberId : memberIds) {
+            result.put(memberId, generation(memberId));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void evict(String memberId) {
+        if (generations.size() >= maximumSize) {
+            clearGenerations();
+        }
+        generations.put(memberId, ++clock);
+        entries.remove(memberId);
+    }
+
+    @Override
+    public synchronized void clear() {
+        clearGenerations();
+        entries.clear();
+    }
+
+    private void clearGenerations() {
+        generations.clear();
+        clearedGeneration = ++clock;
+    }
+
+    @Override
+    public CacheStats getStats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return CacheStats.builder()
+                .hitCount(hitCount.sum())
+                .missCount(missCount.sum())
+                .evictionCount(evictionCount.sum())
+                .size(size)
+                .coalescedCount(loads.getCoalescedCount())
+                .build();
+    }
+
+    @EqualsAndHashCode
+    private static class LoadKey {
+        private final String memberId;
+        private final long generation;
+
+        private LoadKey(String memberId, long generation) {
+            this.memberId = memberId;
+            this.generation = generation;
+        }
+    }
+
+    private static class Entry {
+        private final Optional<DeveloperDetailDto> value;
+        private final long expiresAt;
+
+        private Entry(Optional<DeveloperDetailDto> value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
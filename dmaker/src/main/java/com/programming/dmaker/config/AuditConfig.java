@@ -0,0 +1,19 @@
+package com.programming.dmaker.config;
+
+import com.programming.dmaker.audit.AuditLog;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+@Configuration
+public class AuditConfig {
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public AuditLog auditLog(DMakerProperties properties) throws IOException {
+        DMakerProperties.Audit audit = properties.getAudit();
+        return new AuditLog(Paths.get(audit.getPath()), audit.getBufferSize(),
+                audit.getBatchSize(), audit.getMaxFileSize().toBytes(), audit.getMaxHistory(),
+                audit.getOverflowPolicy());
+    }
+}
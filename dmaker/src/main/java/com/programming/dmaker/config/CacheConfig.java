@@ -0,0 +1,29 @@
+package com.programming.dmaker.config;
+
+import com.programming.dmaker.cache.DeveloperDetailCache;
+import com.programming.dmaker.cache.LocalDeveloperDetailCache;
+import com.programming.dmaker.cache.SingleFlight;
+import com.programming.dmaker.dto.DeveloperDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(DMakerProperties.class)
+public class CacheConfig {
+    @Bean
+    @ConditionalOnMissingBean(DeveloperDetailCache.class)
+    public DeveloperDetailCache developerDetailCache(DMakerProperties properties) {
+        DMakerProperties.Cache cache = properties.getCache();
+        return new LocalDeveloperDetailCache(
+                cache.getMaximumSize(), cache.getTtl(), cache.getNegativeTtl());
+    }
+
+    @Bean
+    public SingleFlight<String, List<DeveloperDto>> developerListLoads() {
+        return new SingleFlight<>();
+    }
+}
@@ -0,0 +1,168 @@
+package com.programming.dmaker.config;
+
+import com.programming.dmaker.audit.AuditLog;
+import com.programming.dmaker.replication.ReplicaRoutingDataSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker")
+public class DMakerProperties {
+    private final Cache cache = new Cache();
+    private final Bulk bulk = new Bulk();
+    private final Execution execution = new Execution();
+    private final Edit edit = new Edit();
+    private final MultiGet multiGet = new MultiGet();
+    private final Outbox outbox = new Outbox();
+    private final Archive archive = new Archive();
+    private final MemberFilter memberFilter = new MemberFilter();
+    private final ErrorLog errorLog = new ErrorLog();
+    private final Admission admission = new Admission();
+    private final RateLimit rateLimit = new RateLimit();
+    private final Idempotency idempotency = new Idempotency();
+    private final Audit audit = new Audit();
+    private final Replication replication = new Replication();
+    private final ReadModel readModel = new ReadModel();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private int maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+        private Duration negativeTtl = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Bulk {
+        private int batchSize = 50;
+        private int maxRows = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Edit {
+        private int maxAttempts = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class MultiGet {
+        private int maxMemberIds = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private int batchSize = 500;
+        private Duration retention = Duration.ofDays(7);
+        private Duration sseTimeout = Duration.ofMinutes(30);
+        private int sseMaxBacklog = 1_000;
+        private int sseSendThreads = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        private Duration retiredFor = Duration.ofDays(1);
+        private int chunkSize = 500;
+        private int maxChunksPerRun = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class MemberFilter {
+        private long expectedInsertions = 100_000;
+        private double falsePositiveProbability = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class ErrorLog {
+        private int permitsPerInterval = 10;
+        private Duration interval = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        private int maxConcurrentWrites = 6;
+        private Duration maxWait = Duration.ofMillis(50);
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private int capacity = 20;
+        private double refillPerSecond = 10;
+        private int maxClients = 10_000;
+        private String clientIdHeader = "X-Client-Id";
+        private List<String> trustedProxies = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private int maxEntries = 10_000;
+        private Duration ttl = Duration.ofHours(1);
+        private int maxKeyLength = 255;
+    }
+
+    @Getter
+    @Setter
+    public static class Audit {
+        private String path = "logs/audit.log";
+        private int bufferSize = 8192;
+        private int batchSize = 512;
+        private DataSize maxFileSize = DataSize.ofMegabytes(10);
+        private int maxHistory = 5;
+        private AuditLog.OverflowPolicy overflowPolicy = AuditLog.OverflowPolicy.DROP;
+    }
+
+    @Getter
+    @Setter
+    public static class Replication {
+        private List<Replica> replicas = new ArrayList<>();
+        private ReplicaRoutingDataSource.Selection selection =
+                ReplicaRoutingDataSource.Selection.ROUND_ROBIN;
+        // zero turns read-your-writes off
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+        @Getter
+        @Setter
+        public static class Replica {
+            private String url;
+            private String username;
+            private String password;
+            private int maximumPoolSize = 10;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class ReadModel {
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Execution {
+        private Mode mode = Mode.SYNC;
+        private int poolSize = 10;
+        private int queueCapacity = 10_000;
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public enum Mode {
+            SYNC,
+            ASYNC
+        }
+    }
+}
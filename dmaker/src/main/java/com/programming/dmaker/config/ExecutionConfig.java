@@ -0,0 +1,25 @@
+package com.programming.dmaker.config;
+
+import com.programming.dmaker.controller.RequestExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(DMakerProperties.class)
+public class ExecutionConfig {
+    @Bean
+    @ConditionalOnProperty(prefix = "dmaker.execution", name = "mode", havingValue = "async")
+    public RequestExecutor requestExecutor(DMakerProperties properties) {
+        DMakerProperties.Execution execution = properties.getExecution();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(execution.getPoolSize());
+        executor.setMaxPoolSize(execution.getPoolSize());
+        executor.setQueueCapacity(execution.getQueueCapacity());
+        executor.setThreadNamePrefix("dmaker-db-");
+        executor.initialize();
+        return new RequestExecutor(executor, execution.getRetryAfter());
+    }
+}
@@ -0,0 +1,15 @@
+package com.programming.dmaker.config;
+
+import com.programming.dmaker.metrics.QueryCountInterceptor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInterceptorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                "hibernate.session_factory.interceptor", new QueryCountInterceptor());
+    }
+}
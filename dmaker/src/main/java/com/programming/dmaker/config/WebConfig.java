@@ -0,0 +1,51 @@
+package com.programming.dmaker.config;
+
+import com.programming.dmaker.admission.ClientKeyResolver;
+import com.programming.dmaker.admission.ClientRateLimiter;
+import com.programming.dmaker.admission.WriteRateLimitInterceptor;
+import com.programming.dmaker.idempotency.IdempotencyStore;
+import com.programming.dmaker.readmodel.SerializedDeveloperListHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final DMakerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public ClientRateLimiter clientRateLimiter() {
+        return new ClientRateLimiter(properties.getRateLimit());
+    }
+
+    @Bean
+    public ClientKeyResolver clientKeyResolver() {
+        DMakerProperties.RateLimit rateLimit = properties.getRateLimit();
+        return new ClientKeyResolver(rateLimit.getClientIdHeader(), rateLimit.getTrustedProxies());
+    }
+
+    @Bean
+    public IdempotencyStore idempotencyStore() {
+        return new IdempotencyStore(properties.getIdempotency());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WriteRateLimitInterceptor(clientRateLimiter(),
+                clientKeyResolver(), meterRegistry));
+    }
+
+    // ahead of Jackson so a cached roster is written as the bytes it already has
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new SerializedDeveloperListHttpMessageConverter());
+    }
+}
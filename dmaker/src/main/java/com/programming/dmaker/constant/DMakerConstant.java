@@ -5,4 +5,8 @@ public class DMakerConstant {
     public static final Integer MAX_JUNIOR_EXPERIENCE_YEAR = 10;
     public static final Integer MIN_SENIOR_EXPERIENCE_YEAR = 11;
     public static final Integer MAX_SENIOR_EXPERIENCE_YEAR = 50;
+
+    public static final Integer MAX_PAGE_SIZE = 100;
+    public static final String STREAM_FETCH_SIZE = "500";
+    public static final Integer IN_CLAUSE_CHUNK_SIZE = 1000;
 }
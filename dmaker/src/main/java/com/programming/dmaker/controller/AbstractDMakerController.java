@@ -0,0 +1,143 @@
+package com.programming.dmaker.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.admission.ClientKeyResolver;
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.dto.DeveloperStatsDto;
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import com.programming.dmaker.idempotency.IdempotencyStore;
+import com.programming.dmaker.service.DMakerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Endpoints and helpers shared by the sync and async controllers. Only one
+ * of {@link DMakerController} and {@link AsyncDMakerController} is
+ * registered, depending on dmaker.execution.mode.
+ */
+@RequiredArgsConstructor
+public abstract class AbstractDMakerController {
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    protected static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    protected final DMakerService dMakerService;
+    protected final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+    private final ClientKeyResolver clientKeyResolver;
+
+    @GetMapping("/developers/stats")
+    public DeveloperStatsDto getDeveloperStats() {
+        return dMakerService.getDeveloperStats();
+    }
+
+    @GetMapping(value = "/developers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDevelopersAsNdjson() {
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(outputStream)) {
+                dMakerService.streamAllDevelopers(developerDto -> {
+                    writeDeveloper(generator, developerDto);
+                    writeNewLine(generator);
+                });
+            }
+        };
+    }
+
+    @GetMapping(value = "/developers/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamDevelopersAsJsonArray() {
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(outputStream)) {
+                generator.writeStartArray();
+                dMakerService.streamAllDevelopers(
+                        developerDto -> writeDeveloper(generator, developerDto));
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private static void writeDeveloper(JsonGenerator generator, DeveloperDto developerDto) {
+        try {
+            generator.writeObject(developerDto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNewLine(JsonGenerator generator) {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected List<CreateDeveloper.Request> readNdjson(InputStream inputStream) throws IOException {
+        try (MappingIterator<CreateDeveloper.Request> iterator = objectMapper
+                .readerFor(CreateDeveloper.Request.class).readValues(inputStream)) {
+            return iterator.readAll();
+        } catch (JsonProcessingException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, e.getOriginalMessage());
+        }
+    }
+
+    // on GET, a matching If-None-Match or If-Modified-Since turns this into a
+    // 304 before the body is serialized
+    protected static ResponseEntity<DeveloperDetailDto> withETag(DeveloperDetailDto developerDetailDto) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(DeveloperETag.of(developerDetailDto.getVersion()));
+        if (developerDetailDto.getUpdatedAt() != null) {
+            response.lastModified(developerDetailDto.getUpdatedAt().atZone(ZoneId.systemDefault()));
+        }
+        return response.body(developerDetailDto);
+    }
+
+    // without a key every call runs; with one, a retry from the same client
+    // gets the first call's result instead of running the write again
+    protected <T> CompletableFuture<T> executeIdempotent(
+            String idempotencyKey, String operation, Object request,
+            HttpServletRequest servletRequest, HttpServletResponse response,
+            Supplier<CompletableFuture<T>> action
+    ) throws JsonProcessingException {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        IdempotencyStore.Outcome<T> outcome = idempotencyStore.execute(
+                clientKeyResolver.resolve(servletRequest), idempotencyKey,
+                fingerprint(operation, request), action);
+        if (outcome.isReplayed()) {
+            response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        }
+        return outcome.getResult();
+    }
+
+    private String fingerprint(String operation, Object request) throws JsonProcessingException {
+        return operation + ":" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+    }
+}
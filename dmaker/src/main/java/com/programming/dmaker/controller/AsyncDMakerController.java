@@ -0,0 +1,154 @@
+package com.programming.dmaker.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.admission.ClientKeyResolver;
+import com.programming.dmaker.cache.DeveloperChangeVersion;
+import com.programming.dmaker.dto.*;
+import com.programming.dmaker.idempotency.IdempotencyStore;
+import com.programming.dmaker.service.DMakerService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The endpoints of {@link DMakerController} that wait on JDBC, run on the
+ * {@link RequestExecutor} pool so the servlet thread is released meanwhile.
+ * Registered instead of it when dmaker.execution.mode is async.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "dmaker.execution", name = "mode", havingValue = "async")
+public class AsyncDMakerController extends AbstractDMakerController {
+    private final RequestExecutor requestExecutor;
+
+    public AsyncDMakerController(
+            DMakerService dMakerService, ObjectMapper objectMapper,
+            IdempotencyStore idempotencyStore, ClientKeyResolver clientKeyResolver,
+            RequestExecutor requestExecutor
+    ) {
+        super(dMakerService, objectMapper, idempotencyStore, clientKeyResolver);
+        this.requestExecutor = requestExecutor;
+    }
+
+    // the version is read before the query, so a change that lands while it
+    // runs can only make the next poll refetch, never hide a change
+    @GetMapping("/developers")
+    public CompletableFuture<ResponseEntity<List<DeveloperDto>>> getAllDevelopers(
+            final WebRequest webRequest
+    ) {
+        DeveloperChangeVersion changeVersion = dMakerService.getDeveloperChangeVersion();
+        String eTag = DeveloperETag.of(changeVersion.getTag());
+        long lastModified = changeVersion.getLastModified().toEpochMilli();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return requestExecutor.submit(() -> ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .body(dMakerService.getAllDevelopers()));
+    }
+
+    @GetMapping(value = "/developers", params = "size")
+    public CompletableFuture<DeveloperPageDto> getDevelopers(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam final Integer size
+    ) {
+        return requestExecutor.submit(() -> dMakerService.getDevelopers(cursor, size));
+    }
+
+    @GetMapping("/developers/search")
+    public CompletableFuture<DeveloperPageDto> searchDevelopers(
+            @ModelAttribute final DeveloperSearchCondition condition,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final Integer size,
+            @RequestParam(defaultValue = "false") final boolean withCount
+    ) {
+        return requestExecutor.submit(
+                () -> dMakerService.searchDevelopers(condition, cursor, size, withCount));
+    }
+
+    @PostMapping("/retire-developers")
+    public CompletableFuture<RetireDevelopers.Response> retireDevelopers(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @RequestBody final RetireDevelopers.Request request,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse response
+    ) throws JsonProcessingException {
+        return executeIdempotent(idempotencyKey, "retireDevelopers", request, servletRequest, response,
+                () -> requestExecutor.submit(() -> dMakerService.retireDevelopers(request)));
+    }
+
+    @GetMapping("/developer/{memberId}")
+    public CompletableFuture<ResponseEntity<DeveloperDetailDto>> getDeveloperDetail(
+            @PathVariable final String memberId
+    ) {
+        return requestExecutor.submit(() -> withETag(dMakerService.getDeveloperDetail(memberId)));
+    }
+
+    @GetMapping("/developers/details")
+    public CompletableFuture<GetDeveloperDetails.Response> getDeveloperDetails(
+            @RequestParam(required = false) final List<String> memberIds
+    ) {
+        return requestExecutor.submit(() -> dMakerService.getDeveloperDetails(memberIds));
+    }
+
+    @PostMapping("/create-developers")
+    public CompletableFuture<CreateDeveloper.Response> createDevelopers(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @Valid @RequestBody final CreateDeveloper.Request request,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse response
+    ) throws JsonProcessingException {
+        return executeIdempotent(idempotencyKey, "createDeveloper", request, servletRequest, response,
+                () -> requestExecutor.submit(() -> dMakerService.createDeveloper(request)));
+    }
+
+    @PostMapping(value = "/create-developers/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<BulkCreateDeveloper.Response> createDevelopersInBulk(
+            @RequestBody final List<CreateDeveloper.Request> requests
+    ) {
+        return requestExecutor.submit(() -> dMakerService.createDevelopers(requests));
+    }
+
+    @PostMapping(value = "/create-developers/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<BulkCreateDeveloper.Response> createDevelopersInBulkFromNdjson(
+            final InputStream inputStream
+    ) throws IOException {
+        List<CreateDeveloper.Request> requests = readNdjson(inputStream);
+        return requestExecutor.submit(() -> dMakerService.createDevelopers(requests));
+    }
+
+    @PutMapping("/developer/{memberId}")
+    public CompletableFuture<ResponseEntity<DeveloperDetailDto>> editDeveloper(
+            @PathVariable final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @Valid @RequestBody EditDeveloper.Request request
+    ) {
+        Long expectedVersion = DeveloperETag.parseIfMatch(ifMatch);
+        return requestExecutor.submit(() -> withETag(
+                dMakerService.editDeveloper(memberId, request, expectedVersion)));
+    }
+
+    @DeleteMapping("/developer/{memberId}")
+    public CompletableFuture<DeveloperDetailDto> deleteDeveloper(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @PathVariable final String memberId,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse response
+    ) throws JsonProcessingException {
+        return executeIdempotent(idempotencyKey, "deleteDeveloper", memberId, servletRequest, response,
+                () -> requestExecutor.submit(() -> dMakerService.deleteDeveloper(memberId)));
+    }
+}
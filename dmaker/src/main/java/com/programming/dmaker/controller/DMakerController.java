@@ -1,58 +1,161 @@
 package com.programming.dmaker.controller;
 
-import com.programming.dmaker.dto.CreateDeveloper;
-import com.programming.dmaker.dto.DeveloperDetailDto;
-import com.programming.dmaker.dto.DeveloperDto;
-import com.programming.dmaker.dto.EditDeveloper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.admission.ClientKeyResolver;
+import com.programming.dmaker.cache.DeveloperChangeVersion;
+import com.programming.dmaker.dto.*;
+import com.programming.dmaker.idempotency.IdempotencyStore;
 import com.programming.dmaker.service.DMakerService;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-@Slf4j
 @RestController
-@RequiredArgsConstructor
 @ToString
-public class DMakerController {
-    private final DMakerService dMakerService;
+@ConditionalOnProperty(prefix = "dmaker.execution", name = "mode", havingValue = "sync", matchIfMissing = true)
+public class DMakerController extends AbstractDMakerController {
+    public DMakerController(
+            DMakerService dMakerService, ObjectMapper objectMapper,
+            IdempotencyStore idempotencyStore, ClientKeyResolver clientKeyResolver
+    ) {
+        super(dMakerService, objectMapper, idempotencyStore, clientKeyResolver);
+    }
 
+    // the version is read before the query, so a change that lands while it
+    // runs can only make the next poll refetch, never hide a change
     @GetMapping("/developers")
-    public List<DeveloperDto> getAllDevelopers() {
-        log.info("GET /developers");
-        return dMakerService.getAllDevelopers();
+    public ResponseEntity<List<DeveloperDto>> getAllDevelopers(
+            final WebRequest webRequest
+    ) {
+        DeveloperChangeVersion changeVersion = dMakerService.getDeveloperChangeVersion();
+        String eTag = DeveloperETag.of(changeVersion.getTag());
+        long lastModified = changeVersion.getLastModified().toEpochMilli();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .body(dMakerService.getAllDevelopers());
+    }
+
+    @GetMapping(value = "/developers", params = "size")
+    public DeveloperPageDto getDevelopers(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam final Integer size
+    ) {
+        return dMakerService.getDevelopers(cursor, size);
+    }
+
+    @GetMapping("/developers/search")
+    public DeveloperPageDto searchDevelopers(
+            @ModelAttribute final DeveloperSearchCondition condition,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final Integer size,
+            @RequestParam(defaultValue = "false") final boolean withCount
+    ) {
+        return dMakerService.searchDevelopers(condition, cursor, size, withCount);
+    }
+
+    @PostMapping("/retire-developers")
+    public RetireDevelopers.Response retireDevelopers(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @RequestBody final RetireDevelopers.Request request,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse response
+    ) throws JsonProcessingException {
+        return await(executeIdempotent(idempotencyKey, "retireDevelopers", request,
+                servletRequest, response,
+                () -> CompletableFuture.completedFuture(dMakerService.retireDevelopers(request))));
     }
 
     @GetMapping("/developer/{memberId}")
-    public DeveloperDetailDto getDeveloperDetail(
+    public ResponseEntity<DeveloperDetailDto> getDeveloperDetail(
             @PathVariable final String memberId
     ) {
-        return dMakerService.getDeveloperDetail(memberId);
+        return withETag(dMakerService.getDeveloperDetail(memberId));
+    }
+
+    @GetMapping("/developers/details")
+    public GetDeveloperDetails.Response getDeveloperDetails(
+            @RequestParam(required = false) final List<String> memberIds
+    ) {
+        return dMakerService.getDeveloperDetails(memberIds);
     }
 
     @PostMapping("/create-developers")
     public CreateDeveloper.Response createDevelopers(
-            @Valid @RequestBody final CreateDeveloper.Request request
-            ) {
-        log.info("request: {}", request);
-        return dMakerService.createDeveloper(request);
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @Valid @RequestBody final CreateDeveloper.Request request,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse response
+    ) throws JsonProcessingException {
+        return await(executeIdempotent(idempotencyKey, "createDeveloper", request,
+                servletRequest, response,
+                () -> CompletableFuture.completedFuture(dMakerService.createDeveloper(request))));
+    }
+
+    @PostMapping(value = "/create-developers/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkCreateDeveloper.Response createDevelopersInBulk(
+            @RequestBody final List<CreateDeveloper.Request> requests
+    ) {
+        return dMakerService.createDevelopers(requests);
+    }
+
+    @PostMapping(value = "/create-developers/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkCreateDeveloper.Response createDevelopersInBulkFromNdjson(
+            final InputStream inputStream
+    ) throws IOException {
+        return dMakerService.createDevelopers(readNdjson(inputStream));
     }
 
     @PutMapping("/developer/{memberId}")
-    public DeveloperDetailDto editDeveloper(
+    public ResponseEntity<DeveloperDetailDto> editDeveloper(
             @PathVariable final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @Valid @RequestBody EditDeveloper.Request request
     ) {
-        return dMakerService.editDeveloper(memberId, request);
+        Long expectedVersion = DeveloperETag.parseIfMatch(ifMatch);
+        return withETag(dMakerService.editDeveloper(memberId, request, expectedVersion));
     }
 
     @DeleteMapping("/developer/{memberId}")
     public DeveloperDetailDto deleteDeveloper(
-            @PathVariable final String memberId
-    ) {
-        return dMakerService.deleteDeveloper(memberId);
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @PathVariable final String memberId,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse response
+    ) throws JsonProcessingException {
+        return await(executeIdempotent(idempotencyKey, "deleteDeveloper", memberId,
+                servletRequest, response,
+                () -> CompletableFuture.completedFuture(dMakerService.deleteDeveloper(memberId))));
+    }
+
+    // a retry that joins a call still running waits for it here; its failure
+    // is rethrown as the original exception
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,29 @@
+package com.programming.dmaker.controller;
+
+import com.programming.dmaker.outbox.DeveloperChangeStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class DeveloperChangeController {
+    private final DeveloperChangeStream developerChangeStream;
+
+    // resumes after Last-Event-ID (set by EventSource on reconnect) or the
+    // offset parameter; without either, only new changes are streamed
+    @GetMapping(value = "/developers/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) final Long offset,
+            @RequestHeader(value = "Last-Event-ID", required = false) final Long lastEventId
+    ) {
+        long from = lastEventId != null ? lastEventId
+                : offset != null ? offset
+                : developerChangeStream.currentSequence();
+        return developerChangeStream.subscribe(from);
+    }
+}
@@ -0,0 +1,40 @@
+package com.programming.dmaker.controller;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+
+final class DeveloperETag {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private DeveloperETag() {
+    }
+
+    static String of(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    // returns null when the request carries no version precondition
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw invalidIfMatch();
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw invalidIfMatch();
+        }
+    }
+
+    private static DMakerException invalidIfMatch() {
+        return new DMakerException(DMakerErrorCode.INVALID_REQUEST, "If-Match 헤더 형식이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,44 @@
+package com.programming.dmaker.controller;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work of {@link AsyncDMakerController} on a bounded pool, releasing
+ * the servlet thread while the request waits on JDBC. The pool is sized by
+ * dmaker.execution.pool-size on its own; it is not tied to the Hikari pool,
+ * so a larger pool only queues on connections. A full pool queue is answered
+ * with TOO_MANY_REQUESTS instead of failing the request.
+ */
+public class RequestExecutor implements DisposableBean {
+    private final Executor executor;
+    private final Duration retryAfter;
+
+    public RequestExecutor(Executor executor, Duration retryAfter) {
+        this.executor = executor;
+        this.retryAfter = retryAfter;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            throw new DMakerException(DMakerErrorCode.TOO_MANY_REQUESTS, retryAfter);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor) {
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+}
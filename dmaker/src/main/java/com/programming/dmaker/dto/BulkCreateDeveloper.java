@@ -0,0 +1,52 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import lombok.*;
+
+import java.util.List;
+
+public class BulkCreateDeveloper {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+        private Integer index;
+        private String memberId;
+        private Boolean created;
+        private DMakerErrorCode errorCode;
+        private String errorMessage;
+
+        public static Result created(Integer index, String memberId) {
+            return Result.builder()
+                    .index(index)
+                    .memberId(memberId)
+                    .created(true)
+                    .build();
+        }
+
+        public static Result failed(
+                Integer index, String memberId, DMakerErrorCode errorCode, String errorMessage
+        ) {
+            return Result.builder()
+                    .index(index)
+                    .memberId(memberId)
+                    .created(false)
+                    .errorCode(errorCode)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private Integer createdCount;
+        private Integer failedCount;
+        private List<Result> results;
+    }
+}
@@ -0,0 +1,33 @@
+package com.programming.dmaker.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangeType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperChangeMessage {
+    private Long sequence;
+    private DeveloperChangeType changeType;
+    private String memberId;
+    @JsonRawValue
+    private String changes;
+    private LocalDateTime occurredAt;
+
+    public static DeveloperChangeMessage fromEntity(DeveloperOutboxEvent event) {
+        return DeveloperChangeMessage.builder()
+                .sequence(event.getPublishedSequence())
+                .changeType(event.getChangeType())
+                .memberId(event.getMemberId())
+                .changes(event.getChanges())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
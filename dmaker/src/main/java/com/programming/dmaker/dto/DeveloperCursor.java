@@ -0,0 +1,32 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class DeveloperCursor {
+    private static final Long FIRST_PAGE = 0L;
+
+    private DeveloperCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            return Long.valueOf(new String(
+                    Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
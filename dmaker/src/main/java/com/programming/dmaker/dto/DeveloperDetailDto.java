@@ -1,11 +1,14 @@
 package com.programming.dmaker.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.programming.dmaker.entity.Developer;
 import com.programming.dmaker.type.DeveloperLevel;
 import com.programming.dmaker.type.DeveloperSkillType;
 import com.programming.dmaker.type.StatusCode;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 
 @Getter
 @Setter
@@ -20,6 +23,10 @@ public class DeveloperDetailDto {
     private StatusCode statusCode;
     private String name;
     private Integer age;
+    @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 
     public static DeveloperDetailDto fromEntity(Developer developer) {
         return DeveloperDetailDto.builder()
@@ -30,6 +37,8 @@ public class DeveloperDetailDto {
                 .statusCode(developer.getStatusCode())
                 .name(developer.getName())
                 .age(developer.getAge())
+                .version(developer.getVersion())
+                .updatedAt(developer.getUpdatedAt())
                 .build();
     }
 }
@@ -23,4 +23,12 @@ public class DeveloperDto {
                 .memberId(developer.getMemberId())
                 .build();
     }
+
+    public static DeveloperDto fromSummary(DeveloperSummary developerSummary) {
+        return DeveloperDto.builder()
+                .developerLevel(developerSummary.getDeveloperLevel())
+                .developerSkillType(developerSummary.getDeveloperSkillType())
+                .memberId(developerSummary.getMemberId())
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+
+public interface DeveloperMemberStatus {
+    String getMemberId();
+
+    StatusCode getStatusCode();
+
+    DeveloperLevel getDeveloperLevel();
+
+    DeveloperSkillType getDeveloperSkillType();
+
+    Integer getExperienceYears();
+}
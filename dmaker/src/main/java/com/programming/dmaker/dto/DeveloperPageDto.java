@@ -0,0 +1,18 @@
+package com.programming.dmaker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperPageDto {
+    private List<DeveloperDto> developers;
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalCount;
+}
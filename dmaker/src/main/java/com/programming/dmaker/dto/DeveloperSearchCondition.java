@@ -0,0 +1,22 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperSearchCondition {
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer minExperienceYears;
+    private Integer maxExperienceYears;
+    @Builder.Default
+    private StatusCode statusCode = StatusCode.EMPLOYED;
+    private String namePrefix;
+}
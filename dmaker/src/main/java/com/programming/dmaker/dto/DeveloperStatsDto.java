@@ -0,0 +1,32 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperStatsDto {
+    private long headcount;
+    private Double averageExperienceYears;
+    private List<Cell> cells;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Cell {
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+        private StatusCode statusCode;
+        private long headcount;
+        private Double averageExperienceYears;
+    }
+}
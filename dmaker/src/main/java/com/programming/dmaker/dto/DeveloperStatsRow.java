@@ -0,0 +1,17 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+
+public interface DeveloperStatsRow {
+    DeveloperLevel getDeveloperLevel();
+
+    DeveloperSkillType getDeveloperSkillType();
+
+    StatusCode getStatusCode();
+
+    Long getHeadcount();
+
+    Long getExperienceYearsSum();
+}
@@ -0,0 +1,14 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+
+public interface DeveloperSummary {
+    Long getId();
+
+    DeveloperLevel getDeveloperLevel();
+
+    DeveloperSkillType getDeveloperSkillType();
+
+    String getMemberId();
+}
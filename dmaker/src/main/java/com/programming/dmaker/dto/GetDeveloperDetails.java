@@ -0,0 +1,19 @@
+package com.programming.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+public class GetDeveloperDetails {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        // keyed by memberId, in request order
+        private Map<String, DeveloperDetailDto> developers;
+        private List<String> notFoundMemberIds;
+    }
+}
@@ -0,0 +1,36 @@
+package com.programming.dmaker.dto;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.util.List;
+
+public class RetireDevelopers {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+        private List<String> memberIds;
+
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+
+        public boolean hasFilter() {
+            return developerLevel != null || developerSkillType != null;
+        }
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private List<String> retiredMemberIds;
+        private List<String> missingMemberIds;
+        private List<String> alreadyRetiredMemberIds;
+    }
+}
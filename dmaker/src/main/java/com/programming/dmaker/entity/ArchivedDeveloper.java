@@ -0,0 +1,46 @@
+package com.programming.dmaker.entity;
+
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Retired developers moved out of the hot developer table. Rows keep the
+ * original developer id, version and audit timestamps. A memberId is never
+ * reused once archived, so it appears here at most once.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_archived_developer_member_id", columnNames = "memberId"))
+public class ArchivedDeveloper {
+    @Id
+    protected Long id;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private Integer experienceYears;
+    private String memberId;
+    private String name;
+    private Integer age;
+
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime archivedAt;
+}
@@ -17,11 +17,25 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = Developer.MEMBER_ID_UNIQUE_CONSTRAINT, columnNames = "memberId"),
+        indexes = {
+                @Index(name = "idx_developer_status_code_id", columnList = "statusCode, id"),
+                @Index(name = "idx_developer_status_level_skill_id",
+                        columnList = "statusCode, developerLevel, developerSkillType, id"),
+                @Index(name = "idx_developer_status_skill_id",
+                        columnList = "statusCode, developerSkillType, id"),
+                @Index(name = "idx_developer_name", columnList = "name")
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
 public class Developer {
+    public static final String MEMBER_ID_UNIQUE_CONSTRAINT = "uk_developer_member_id";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_seq")
+    @SequenceGenerator(name = "developer_seq", sequenceName = "developer_seq", allocationSize = 50)
     protected Long id;
 
     @Enumerated(EnumType.STRING)
@@ -38,6 +52,9 @@ public class Developer {
     @Enumerated(EnumType.STRING)
     private StatusCode statusCode;
 
+    @Version
+    private Long version;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
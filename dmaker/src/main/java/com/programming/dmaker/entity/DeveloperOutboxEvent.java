@@ -0,0 +1,41 @@
+package com.programming.dmaker.entity;
+
+import com.programming.dmaker.event.DeveloperChangeType;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(
+        name = "idx_developer_outbox_event_published_sequence", columnList = "publishedSequence"))
+@EntityListeners(AuditingEntityListener.class)
+public class DeveloperOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_outbox_event_seq")
+    @SequenceGenerator(name = "developer_outbox_event_seq",
+            sequenceName = "developer_outbox_event_seq", allocationSize = 50)
+    protected Long id;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperChangeType changeType;
+
+    private String memberId;
+
+    // JSON object of the fields that changed
+    @Column(length = 1000)
+    private String changes;
+
+    // assigned by the relay in commit order; consumers resume from it
+    private Long publishedSequence;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_retired_developer_member_id", columnList = "memberId"))
 @EntityListeners(AuditingEntityListener.class)
 public class RetiredDeveloper {
     @Id
@@ -0,0 +1,7 @@
+package com.programming.dmaker.event;
+
+public enum DeveloperChangeType {
+    CREATED,
+    EDITED,
+    RETIRED
+}
@@ -0,0 +1,16 @@
+package com.programming.dmaker.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class DeveloperChangedEvent {
+    private final DeveloperChangeType changeType;
+    private final String memberId;
+    // null before a create
+    private final DeveloperSnapshot before;
+    private final DeveloperSnapshot after;
+}
@@ -0,0 +1,29 @@
+package com.programming.dmaker.event;
+
+import com.programming.dmaker.entity.Developer;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class DeveloperSnapshot {
+    private final DeveloperLevel developerLevel;
+    private final DeveloperSkillType developerSkillType;
+    private final StatusCode statusCode;
+    private final Integer experienceYears;
+
+    public static DeveloperSnapshot of(Developer developer) {
+        return new DeveloperSnapshot(
+                developer.getDeveloperLevel(),
+                developer.getDeveloperSkillType(),
+                developer.getStatusCode(),
+                developer.getExperienceYears());
+    }
+}
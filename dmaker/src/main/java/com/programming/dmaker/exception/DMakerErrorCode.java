@@ -1,17 +1,35 @@
 package com.programming.dmaker.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
-@AllArgsConstructor
 public enum DMakerErrorCode {
     NO_DEVELOPER("해당되는 개발자가 없습니다."),
     DUPLICATED_MEMBER_ID("MemberId가 중복되는 개발자가 있습니다."),
     LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레벨과 연차가 맞지 않습니다."),
+    DEVELOPER_VERSION_NOT_MATCHED(HttpStatus.PRECONDITION_FAILED, "개발자 정보가 변경되어 요청한 버전과 일치하지 않습니다."),
+    DEVELOPER_UPDATE_CONFLICT(HttpStatus.CONFLICT, "동시에 변경 요청이 발생해 개발자 정보를 수정하지 못했습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청이 이미 처리되었습니다."),
 
     INTERNAL_SERVER_ERROR("서버에 오류가 발생했습니다."),
     INVALID_REQUEST("잘못된 요청입니다.");
 
+    private final HttpStatus httpStatus;
     private final String message;
+
+    DMakerErrorCode(String message) {
+        this(HttpStatus.BAD_REQUEST, message);
+    }
+
+    DMakerErrorCode(HttpStatus httpStatus, String message) {
+        this.httpStatus = httpStatus;
+        this.message = message;
+    }
+
+    // client-caused errors that are part of normal traffic
+    public boolean isExpected() {
+        return this != INTERNAL_SERVER_ERROR && httpStatus.is4xxClientError();
+    }
 }
@@ -2,20 +2,27 @@ package com.programming.dmaker.exception;
 
 import lombok.Getter;
 
+import java.time.Duration;
+
+// expected errors skip the stack trace: they are thrown per request and never read
 @Getter
 public class DMakerException extends RuntimeException {
     private DMakerErrorCode dMakerErrorCode;
     private String detailMessage;
+    private Duration retryAfter;
 
     public DMakerException(DMakerErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.dMakerErrorCode = errorCode;
-        this.detailMessage = errorCode.getMessage();
+        this(errorCode, errorCode.getMessage());
     }
 
     public DMakerException(DMakerErrorCode errorCode, String detailMessage) {
-        super(detailMessage);
+        super(detailMessage, null, false, !errorCode.isExpected());
         this.dMakerErrorCode = errorCode;
         this.detailMessage = detailMessage;
     }
+
+    public DMakerException(DMakerErrorCode errorCode, Duration retryAfter) {
+        this(errorCode);
+        this.retryAfter = retryAfter;
+    }
 }
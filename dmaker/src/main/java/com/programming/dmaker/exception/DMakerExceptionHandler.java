@@ -1,8 +1,13 @@
 package com.programming.dmaker.exception;
 
+import com.programming.dmaker.config.DMakerProperties;
 import com.programming.dmaker.dto.DMakerErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,22 +15,53 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
 
 @Slf4j
 @RestControllerAdvice
 public class DMakerExceptionHandler {
-    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    private final MeterRegistry meterRegistry;
+    private final ErrorLogLimiter errorLogLimiter;
+
+    public DMakerExceptionHandler(MeterRegistry meterRegistry, DMakerProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.errorLogLimiter = new ErrorLogLimiter(
+                properties.getErrorLog().getPermitsPerInterval(),
+                properties.getErrorLog().getInterval());
+    }
+
     @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(
+    public ResponseEntity<DMakerErrorResponse> handleException(
             DMakerException e,
             HttpServletRequest request
     ) {
-        log.error("errorCode: {}, url: {}, message: {}",
-                e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
+        logException(e, request);
+        countError(e.getDMakerErrorCode());
+
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.status(e.getDMakerErrorCode().getHttpStatus());
+        if (e.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e.getRetryAfter()));
+        }
+        return response.body(DMakerErrorResponse.builder()
+                        .errorCode(e.getDMakerErrorCode())
+                        .errorMessage(e.getDetailMessage())
+                        .build());
+    }
+
+    // a write that lost an optimistic-lock race outside the edit retry loop
+    @ResponseStatus(value = HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public DMakerErrorResponse handleOptimisticLockingFailure(
+            OptimisticLockingFailureException e, HttpServletRequest request
+    ) {
+        log.error("url: {}, message: {}",
+                request.getRequestURI(), e.getMessage());
+        countError(DMakerErrorCode.DEVELOPER_UPDATE_CONFLICT);
 
         return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .errorMessage(e.getDetailMessage())
+                .errorCode(DMakerErrorCode.DEVELOPER_UPDATE_CONFLICT)
+                .errorMessage(DMakerErrorCode.DEVELOPER_UPDATE_CONFLICT.getMessage())
                 .build();
     }
 
@@ -38,6 +74,7 @@ public class DMakerExceptionHandler {
     ) {
         log.error("url: {}, message: {}",
                 request.getRequestURI(), e.getMessage());
+        countError(DMakerErrorCode.INVALID_REQUEST);
 
         return DMakerErrorResponse.builder()
                 .errorCode(DMakerErrorCode.INVALID_REQUEST)
@@ -51,10 +88,41 @@ public class DMakerExceptionHandler {
     ) {
         log.error("url: {}, message: {}",
                 request.getRequestURI(), e.getMessage());
+        countError(DMakerErrorCode.INTERNAL_SERVER_ERROR);
 
         return DMakerErrorResponse.builder()
                 .errorCode(DMakerErrorCode.INTERNAL_SERVER_ERROR)
                 .errorMessage(DMakerErrorCode.INTERNAL_SERVER_ERROR.getMessage())
                 .build();
     }
+
+    // expected errors come in bursts (scrapers, retries), so they are sampled
+    private void logException(DMakerException e, HttpServletRequest request) {
+        DMakerErrorCode errorCode = e.getDMakerErrorCode();
+        if (!errorCode.isExpected()) {
+            log.error("errorCode: {}, url: {}, message: {}",
+                    errorCode, request.getRequestURI(), e.getDetailMessage(), e);
+            return;
+        }
+        long suppressed = errorLogLimiter.tryAcquire(errorCode);
+        if (suppressed == ErrorLogLimiter.SUPPRESSED) {
+            return;
+        }
+        if (suppressed > 0) {
+            log.warn("errorCode: {}, url: {}, message: {} ({} similar suppressed)",
+                    errorCode, request.getRequestURI(), e.getDetailMessage(), suppressed);
+        } else {
+            log.warn("errorCode: {}, url: {}, message: {}",
+                    errorCode, request.getRequestURI(), e.getDetailMessage());
+        }
+    }
+
+    private static String retryAfterSeconds(Duration retryAfter) {
+        long seconds = retryAfter.getSeconds() + (retryAfter.getNano() > 0 ? 1 : 0);
+        return Long.toString(Math.max(1, seconds));
+    }
+
+    private void countError(DMakerErrorCode errorCode) {
+        meterRegistry.counter("dmaker.errors", "errorCode", errorCode.name()).increment();
+    }
 }
@@ -0,0 +1,66 @@
+package com.programming.dmaker.exception;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets through a fixed number of log lines per error code and interval. The
+ * first line of the next interval reports how many were dropped in between.
+ */
+class ErrorLogLimiter {
+    static final long SUPPRESSED = -1;
+
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<DMakerErrorCode, Window> windows = new EnumMap<>(DMakerErrorCode.class);
+
+    ErrorLogLimiter(int permitsPerInterval, Duration interval) {
+        this(permitsPerInterval, interval, System::nanoTime);
+    }
+
+    ErrorLogLimiter(int permitsPerInterval, Duration interval, LongSupplier nanoClock) {
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            windows.put(errorCode, new Window(now));
+        }
+    }
+
+    /**
+     * Returns the number of lines dropped since the last one that was let
+     * through, or {@link #SUPPRESSED} if this one should be dropped as well.
+     */
+    long tryAcquire(DMakerErrorCode errorCode) {
+        Window window = windows.get(errorCode);
+        long now = nanoClock.getAsLong();
+        synchronized (window) {
+            if (now - window.startedAt >= intervalNanos) {
+                window.startedAt = now;
+                window.used = 0;
+            }
+            if (window.used >= permitsPerInterval) {
+                window.suppressed++;
+                return SUPPRESSED;
+            }
+            window.used++;
+            long suppressed = window.suppressed;
+            window.suppressed = 0;
+            return suppressed;
+        }
+    }
+
+    private static class Window {
+        private long startedAt;
+        private int used;
+        private long suppressed;
+
+        private Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.programming.dmaker.idempotency;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Results of writes by Idempotency-Key. The first call with a key runs;
+ * calls that arrive while it is running get its future, and calls after it
+ * finished get the stored result, until the entry's TTL runs out. A key sent
+ * again with a different request is rejected. Keys are scoped by client, so
+ * two clients picking the same key never see each other's results.
+ * <p>
+ * Failures are only stored when a retry would fail the same way. Rejections
+ * by admission control, update conflicts and unexpected errors forget the
+ * key, so the client's retry runs again. Past max-entries the oldest finished
+ * entries are dropped; running ones are never dropped.
+ */
+public class IdempotencyStore {
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final int maxKeyLength;
+    private final LongSupplier nanoClock;
+    // insertion order, so the oldest entries come first
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder replayedCount = new LongAdder();
+    private final LongAdder joinedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public IdempotencyStore(DMakerProperties.Idempotency settings) {
+        this(settings, System::nanoTime);
+    }
+
+    IdempotencyStore(DMakerProperties.Idempotency settings, LongSupplier nanoClock) {
+        this.maxEntries = settings.getMaxEntries();
+        this.ttlNanos = settings.getTtl().toNanos();
+        this.maxKeyLength = settings.getMaxKeyLength();
+        this.nanoClock = nanoClock;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Outcome<T> execute(
+            String clientKey, String idempotencyKey, String fingerprint,
+            Supplier<CompletableFuture<T>> action
+    ) {
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > maxKeyLength) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "Idempotency-Key는 1자 이상 " + maxKeyLength + "자 이하여야 합니다.");
+        }
+        String key = clientKey + " " + idempotencyKey;
+
+        Entry entry;
+        Entry created = null;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(nanoClock.getAsLong())) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                created = new Entry(fingerprint);
+                entries.put(key, created);
+                removeOverflow();
+            }
+        }
+
+        if (created == null) {
+            if (!entry.fingerprint.equals(fingerprint)) {
+                rejectedCount.increment();
+                throw new DMakerException(DMakerErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            (entry.result.isDone() ? replayedCount : joinedCount).increment();
+            return new Outcome<>((CompletableFuture<T>) entry.result.copy(), true);
+        }
+
+        executedCount.increment();
+        CompletableFuture<T> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        Entry running = created;
+        result.whenComplete((value, error) -> complete(key, running, value, unwrap(error)));
+        return new Outcome<>(result, false);
+    }
+
+    // the entry is settled before waiting callers are released, so a retry
+    // that follows a forgotten failure runs instead of joining it again
+    private void complete(String key, Entry entry, Object value, Throwable error) {
+        synchronized (this) {
+            if (error == null || isFinal(error)) {
+                entry.expiresAt = nanoClock.getAsLong() + ttlNanos;
+            } else {
+                entries.remove(key, entry);
+            }
+        }
+        if (error == null) {
+            entry.result.complete(value);
+        } else {
+            entry.result.completeExceptionally(error);
+        }
+    }
+
+    private static boolean isFinal(Throwable error) {
+        if (!(error instanceof DMakerException)) {
+            return false;
+        }
+        DMakerErrorCode errorCode = ((DMakerException) error).getDMakerErrorCode();
+        return errorCode.isExpected()
+                && errorCode != DMakerErrorCode.TOO_MANY_REQUESTS
+                && errorCode != DMakerErrorCode.DEVELOPER_UPDATE_CONFLICT;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+    }
+
+    private void removeOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.idempotency.cleanup-interval:PT1M}")
+    public synchronized void removeExpired() {
+        long now = nanoClock.getAsLong();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    public long getReplayedCount() {
+        return replayedCount.sum();
+    }
+
+    public long getJoinedCount() {
+        return joinedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Outcome<T> {
+        private final CompletableFuture<T> result;
+        // answered from an earlier or concurrent call with the same key
+        private final boolean replayed;
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // set once the result is stored; running entries don't expire
+        private long expiresAt = Long.MAX_VALUE;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && expiresAt - now <= 0;
+        }
+    }
+}
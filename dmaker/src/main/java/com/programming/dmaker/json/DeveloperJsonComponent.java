@@ -0,0 +1,91 @@
+package com.programming.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Hand-written serializers for the DTOs on the list and detail paths. They
+ * produce the same fields in the same order as bean serialization would,
+ * without property introspection or per-field accessor dispatch.
+ */
+@JsonComponent
+public class DeveloperJsonComponent {
+    private static final SerializedString DEVELOPER_LEVEL = new SerializedString("developerLevel");
+    private static final SerializedString DEVELOPER_SKILL_TYPE = new SerializedString("developerSkillType");
+    private static final SerializedString EXPERIENCE_YEARS = new SerializedString("experienceYears");
+    private static final SerializedString MEMBER_ID = new SerializedString("memberId");
+    private static final SerializedString STATUS_CODE = new SerializedString("statusCode");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString AGE = new SerializedString("age");
+
+    private static final EnumNames<DeveloperLevel> LEVEL_NAMES = EnumNames.of(DeveloperLevel.class);
+    private static final EnumNames<DeveloperSkillType> SKILL_TYPE_NAMES = EnumNames.of(DeveloperSkillType.class);
+    private static final EnumNames<StatusCode> STATUS_CODE_NAMES = EnumNames.of(StatusCode.class);
+
+    public static class DeveloperDtoSerializer extends StdSerializer<DeveloperDto> {
+        public DeveloperDtoSerializer() {
+            super(DeveloperDto.class);
+        }
+
+        @Override
+        public void serialize(
+                DeveloperDto value, JsonGenerator generator, SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            generator.writeFieldName(DEVELOPER_LEVEL);
+            LEVEL_NAMES.write(generator, value.getDeveloperLevel());
+            generator.writeFieldName(DEVELOPER_SKILL_TYPE);
+            SKILL_TYPE_NAMES.write(generator, value.getDeveloperSkillType());
+            generator.writeFieldName(MEMBER_ID);
+            generator.writeString(value.getMemberId());
+            generator.writeEndObject();
+        }
+    }
+
+    // version is exposed through the ETag header, not the body
+    public static class DeveloperDetailDtoSerializer extends StdSerializer<DeveloperDetailDto> {
+        public DeveloperDetailDtoSerializer() {
+            super(DeveloperDetailDto.class);
+        }
+
+        @Override
+        public void serialize(
+                DeveloperDetailDto value, JsonGenerator generator, SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject(value);
+            generator.writeFieldName(DEVELOPER_LEVEL);
+            LEVEL_NAMES.write(generator, value.getDeveloperLevel());
+            generator.writeFieldName(DEVELOPER_SKILL_TYPE);
+            SKILL_TYPE_NAMES.write(generator, value.getDeveloperSkillType());
+            generator.writeFieldName(EXPERIENCE_YEARS);
+            writeInteger(generator, value.getExperienceYears());
+            generator.writeFieldName(MEMBER_ID);
+            generator.writeString(value.getMemberId());
+            generator.writeFieldName(STATUS_CODE);
+            STATUS_CODE_NAMES.write(generator, value.getStatusCode());
+            generator.writeFieldName(NAME);
+            generator.writeString(value.getName());
+            generator.writeFieldName(AGE);
+            writeInteger(generator, value.getAge());
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.programming.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+
+/**
+ * Enum names pre-encoded once per constant, so writing an enum value is a
+ * byte copy instead of a name() lookup and quoting pass.
+ */
+final class EnumNames<E extends Enum<E>> {
+    private final SerializedString[] names;
+
+    private EnumNames(Class<E> enumType) {
+        E[] constants = enumType.getEnumConstants();
+        names = new SerializedString[constants.length];
+        for (E constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+    }
+
+    static <E extends Enum<E>> EnumNames<E> of(Class<E> enumType) {
+        return new EnumNames<>(enumType);
+    }
+
+    void write(JsonGenerator generator, E value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(names[value.ordinal()]);
+        }
+    }
+}
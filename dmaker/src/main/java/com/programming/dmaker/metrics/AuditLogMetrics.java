@@ -0,0 +1,27 @@
+package com.programming.dmaker.metrics;
+
+import com.programming.dmaker.audit.AuditLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuditLogMetrics implements MeterBinder {
+    private final AuditLog auditLog;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dmaker.audit.records", auditLog, AuditLog::getWrittenCount)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("dmaker.audit.records", auditLog, AuditLog::getDroppedCount)
+                .tag("result", "dropped")
+                .register(registry);
+        Gauge.builder("dmaker.audit.queue.size", auditLog, AuditLog::getQueueSize)
+                .register(registry);
+    }
+}
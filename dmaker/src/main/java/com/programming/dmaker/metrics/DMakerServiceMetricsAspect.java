@@ -0,0 +1,52 @@
+package com.programming.dmaker.metrics;
+
+import com.programming.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// ordered outside the transaction advice so commit-time flushes are counted too
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class DMakerServiceMetricsAspect {
+    private static final String SUCCESS = "SUCCESS";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.programming.dmaker.service.DMakerService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        long statementsBefore = QueryCounter.statements();
+        long entityLoadsBefore = QueryCounter.entityLoads();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (DMakerException e) {
+            outcome = e.getDMakerErrorCode().name();
+            throw e;
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(meterRegistry.timer("dmaker.service",
+                    "operation", operation, "outcome", outcome));
+            DistributionSummary.builder("dmaker.service.statements")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(QueryCounter.statements() - statementsBefore);
+            DistributionSummary.builder("dmaker.service.entity.loads")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(QueryCounter.entityLoads() - entityLoadsBefore);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.programming.dmaker.metrics;
+
+import com.programming.dmaker.cache.DeveloperDetailCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DeveloperDetailCacheMetrics implements MeterBinder {
+    private static final String CACHE_NAME = "developerDetail";
+
+    private final DeveloperDetailCache developerDetailCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dmaker.cache.gets", developerDetailCache,
+                        cache -> cache.getStats().getHitCount())
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("dmaker.cache.gets", developerDetailCache,
+                        cache -> cache.getStats().getMissCount())
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("dmaker.cache.evictions", developerDetailCache,
+                        cache -> cache.getStats().getEvictionCount())
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+        Gauge.builder("dmaker.cache.size", developerDetailCache,
+                        cache -> cache.getStats().getSize())
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.programming.dmaker.metrics;
+
+import com.programming.dmaker.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStoreMetrics implements MeterBinder {
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dmaker.idempotency", idempotencyStore,
+                        IdempotencyStore::getExecutedCount)
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("dmaker.idempotency", idempotencyStore,
+                        IdempotencyStore::getReplayedCount)
+                .tag("result", "replayed")
+                .register(registry);
+        FunctionCounter.builder("dmaker.idempotency", idempotencyStore,
+                        IdempotencyStore::getJoinedCount)
+                .tag("result", "joined")
+                .register(registry);
+        FunctionCounter.builder("dmaker.idempotency", idempotencyStore,
+                        IdempotencyStore::getRejectedCount)
+                .tag("result", "rejected")
+                .register(registry);
+        Gauge.builder("dmaker.idempotency.size", idempotencyStore, IdempotencyStore::size)
+                .register(registry);
+    }
+}
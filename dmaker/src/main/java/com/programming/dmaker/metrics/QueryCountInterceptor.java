@@ -0,0 +1,22 @@
+package com.programming.dmaker.metrics;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+public class QueryCountInterceptor extends EmptyInterceptor {
+    @Override
+    public String onPrepareStatement(String sql) {
+        QueryCounter.incrementStatements();
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(
+            Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types
+    ) {
+        QueryCounter.incrementEntityLoads();
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.programming.dmaker.metrics;
+
+/**
+ * Per-thread running totals of JDBC statements and entity loads.
+ * Callers take a snapshot before and after a unit of work and record the difference.
+ */
+public class QueryCounter {
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+    private static final int STATEMENTS = 0;
+    private static final int ENTITY_LOADS = 1;
+
+    private QueryCounter() {
+    }
+
+    static void incrementStatements() {
+        COUNTS.get()[STATEMENTS]++;
+    }
+
+    static void incrementEntityLoads() {
+        COUNTS.get()[ENTITY_LOADS]++;
+    }
+
+    public static long statements() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    public static long entityLoads() {
+        return COUNTS.get()[ENTITY_LOADS];
+    }
+}
@@ -0,0 +1,34 @@
+package com.programming.dmaker.metrics;
+
+import com.programming.dmaker.cache.DeveloperDetailCache;
+import com.programming.dmaker.cache.SingleFlight;
+import com.programming.dmaker.dto.DeveloperDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SingleFlightMetrics implements MeterBinder {
+    private static final String COALESCED = "dmaker.singleflight.coalesced";
+
+    private final DeveloperDetailCache developerDetailCache;
+    private final SingleFlight<String, List<DeveloperDto>> developerListLoads;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(COALESCED, developerDetailCache,
+                        cache -> cache.getStats().getCoalescedCount())
+                .tag("operation", "getDeveloperDetail")
+                .description("calls that joined an in-flight load instead of running their own")
+                .register(registry);
+        FunctionCounter.builder(COALESCED, developerListLoads, SingleFlight::getCoalescedCount)
+                .tag("operation", "getAllDevelopers")
+                .description("calls that joined an in-flight load instead of running their own")
+                .register(registry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+
+import java.util.List;
+
+/**
+ * Receives every relayed outbox event in sequence order, on every instance,
+ * from {@link DeveloperOutboxFollower}. Implementations must not block the
+ * follower for long; consumers that fall behind resume from the outbox by
+ * sequence.
+ */
+public interface DeveloperChangePublisher {
+    void publish(List<DeveloperChangeMessage> messages);
+}
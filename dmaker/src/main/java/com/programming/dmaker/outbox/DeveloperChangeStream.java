@@ -0,0 +1,242 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Local publisher that pushes relayed changes to SSE subscribers. A new
+ * subscriber first replays the outbox after its offset; live changes that
+ * arrive meanwhile are held back and de-duplicated by sequence, and a gap
+ * in them is filled from the outbox before anything after it is sent.
+ * <p>
+ * Publishing only queues the changes per subscriber; a small pool drains
+ * each queue, one send at a time per subscriber, so a slow client holds up
+ * no one but itself. A subscriber whose backlog passes sse-max-backlog is
+ * dropped and resumes from the outbox when it reconnects with Last-Event-ID.
+ */
+@Slf4j
+@Component
+public class DeveloperChangeStream implements DeveloperChangePublisher, DisposableBean {
+    private static final int REPLAY_THREADS = 2;
+
+    private final DeveloperOutboxEventRepository developerOutboxEventRepository;
+    private final DMakerProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sendExecutor;
+    private final ExecutorService replayExecutor =
+            Executors.newFixedThreadPool(REPLAY_THREADS, new CustomizableThreadFactory("dmaker-change-replay-"));
+
+    public DeveloperChangeStream(
+            DeveloperOutboxEventRepository developerOutboxEventRepository,
+            DMakerProperties properties
+    ) {
+        this.developerOutboxEventRepository = developerOutboxEventRepository;
+        this.properties = properties;
+        this.sendExecutor = Executors.newFixedThreadPool(properties.getOutbox().getSseSendThreads(),
+                new CustomizableThreadFactory("dmaker-change-send-"));
+    }
+
+    public long currentSequence() {
+        return developerOutboxEventRepository.findMaxPublishedSequence();
+    }
+
+    public SseEmitter subscribe(long offset) {
+        SseEmitter emitter = createEmitter(properties.getOutbox().getSseTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, offset);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+        replayExecutor.execute(subscriber::replay);
+        return emitter;
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    @Override
+    public void publish(List<DeveloperChangeMessage> messages) {
+        subscribers.forEach(subscriber -> subscriber.onPublish(messages));
+    }
+
+    @Override
+    public void destroy() {
+        sendExecutor.shutdownNow();
+        replayExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // the emitter is only written by the replay or by one drain at a time
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<DeveloperChangeMessage> backlog = new ArrayDeque<>();
+        private volatile long lastSequence;
+        private boolean replaying = true;
+        private boolean draining;
+        private boolean dropped;
+
+        private Subscriber(SseEmitter emitter, long offset) {
+            this.emitter = emitter;
+            this.lastSequence = offset;
+        }
+
+        private void replay() {
+            try {
+                replayFromOutbox();
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            boolean close;
+            synchronized (this) {
+                replaying = false;
+                close = dropped;
+                scheduleDrain();
+            }
+            if (close) {
+                complete();
+            }
+        }
+
+        private synchronized boolean isDropped() {
+            return dropped;
+        }
+
+        // the emitter is closed by whichever thread is writing to it, so the
+        // relay never waits on a client stuck in a send
+        private synchronized void onPublish(List<DeveloperChangeMessage> messages) {
+            if (dropped) {
+                return;
+            }
+            if (backlog.size() + messages.size() > properties.getOutbox().getSseMaxBacklog()) {
+                log.warn("developer change subscriber dropped: backlog over {}",
+                        properties.getOutbox().getSseMaxBacklog());
+                dropped = true;
+                backlog.clear();
+                subscribers.remove(this);
+                if (!replaying && !draining) {
+                    sendExecutor.execute(this::complete);
+                }
+                return;
+            }
+            backlog.addAll(messages);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (replaying || draining || dropped || backlog.isEmpty()) {
+                return;
+            }
+            draining = true;
+            sendExecutor.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                List<DeveloperChangeMessage> messages = null;
+                boolean close;
+                synchronized (this) {
+                    close = dropped;
+                    if (close || backlog.isEmpty()) {
+                        draining = false;
+                    } else {
+                        messages = new ArrayList<>(backlog);
+                        backlog.clear();
+                    }
+                }
+                if (close) {
+                    complete();
+                }
+                if (messages == null) {
+                    return;
+                }
+                try {
+                    send(messages);
+                } catch (IOException | RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        // reads straight from the outbox, so nothing after lastSequence is
+        // skipped however the live changes arrived
+        private void replayFromOutbox() throws IOException {
+            int batchSize = properties.getOutbox().getBatchSize();
+            List<DeveloperChangeMessage> messages;
+            do {
+                messages = developerOutboxEventRepository
+                        .findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(
+                                lastSequence, PageRequest.of(0, batchSize))
+                        .stream()
+                        .map(DeveloperChangeMessage::fromEntity)
+                        .collect(Collectors.toList());
+                for (DeveloperChangeMessage message : messages) {
+                    emit(message);
+                }
+            } while (messages.size() == batchSize && !isDropped());
+        }
+
+        // a live change that does not follow lastSequence means some were
+        // missed; they are read from the outbox first so Last-Event-ID never
+        // moves past a gap
+        private void send(List<DeveloperChangeMessage> messages) throws IOException {
+            for (DeveloperChangeMessage message : messages) {
+                if (message.getSequence() > lastSequence + 1) {
+                    replayFromOutbox();
+                }
+                if (message.getSequence() > lastSequence) {
+                    emit(message);
+                }
+            }
+        }
+
+        private void emit(DeveloperChangeMessage message) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(message.getSequence()))
+                    .name(message.getChangeType().name())
+                    .data(message, MediaType.APPLICATION_JSON));
+            lastSequence = message.getSequence();
+        }
+
+        // lets the client reconnect right away with its Last-Event-ID
+        private void complete() {
+            emitter.complete();
+        }
+
+        private void fail(Exception e) {
+            log.warn("developer change subscriber dropped: {}", e.getMessage());
+            synchronized (this) {
+                dropped = true;
+            }
+            subscribers.remove(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
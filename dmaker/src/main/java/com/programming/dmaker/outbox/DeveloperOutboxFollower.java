@@ -0,0 +1,84 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.cache.DeveloperChangeTracker;
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Reads relayed events back from the outbox on every instance and hands
+ * them to the local publishers in sequence order, whichever instance's
+ * relay assigned the sequences. Starts from the sequence current at its
+ * first run; history before that is only served by SSE replays.
+ * <p>
+ * The relay hands out sequences under row locks, one transaction at a
+ * time, so they become visible in order and following by sequence never
+ * skips a committed event.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperOutboxFollower {
+    private final DeveloperOutboxEventRepository developerOutboxEventRepository;
+    private final List<DeveloperChangePublisher> publishers;
+    private final DeveloperChangeTracker developerChangeTracker;
+    private final DMakerProperties properties;
+
+    private long position = -1;
+
+    @Scheduled(fixedDelayString = "${dmaker.outbox.relay-interval:PT1S}")
+    public synchronized void follow() {
+        if (position < 0) {
+            Optional<DeveloperOutboxEvent> latest = developerOutboxEventRepository
+                    .findFirstByPublishedSequenceIsNotNullOrderByPublishedSequenceDesc();
+            position = latest.map(DeveloperOutboxEvent::getPublishedSequence).orElse(0L);
+            developerChangeTracker.advance(position,
+                    latest.map(DeveloperOutboxEvent::getCreatedAt).orElse(null));
+            return;
+        }
+
+        int batchSize = properties.getOutbox().getBatchSize();
+        List<DeveloperChangeMessage> messages;
+        do {
+            messages = developerOutboxEventRepository
+                    .findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(
+                            position, PageRequest.of(0, batchSize))
+                    .stream()
+                    .map(DeveloperChangeMessage::fromEntity)
+                    .collect(Collectors.toList());
+            if (messages.isEmpty()) {
+                return;
+            }
+            publish(messages);
+            DeveloperChangeMessage last = messages.get(messages.size() - 1);
+            position = last.getSequence();
+            developerChangeTracker.advance(position, last.getOccurredAt());
+        } while (messages.size() == batchSize);
+    }
+
+    // a failing publisher does not hold back the others; SSE subscribers
+    // catch up from the outbox by sequence
+    private void publish(List<DeveloperChangeMessage> messages) {
+        for (DeveloperChangePublisher publisher : publishers) {
+            try {
+                publisher.publish(messages);
+            } catch (RuntimeException e) {
+                log.error("publisher: {}, message: {}", publisher.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    synchronized long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,62 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperOutboxRelay {
+    private final DeveloperOutboxEventRepository developerOutboxEventRepository;
+    private final DMakerProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    // only assigns sequences; every instance's DeveloperOutboxFollower reads
+    // them back and publishes locally
+    @Scheduled(fixedDelayString = "${dmaker.outbox.relay-interval:PT1S}")
+    public void relay() {
+        int batchSize = properties.getOutbox().getBatchSize();
+        Integer assigned;
+        do {
+            assigned = transactionTemplate.execute(status -> assignSequences(batchSize));
+        } while (assigned != null && assigned == batchSize);
+    }
+
+    // sequences are handed out under the row locks, so they follow commit
+    // order even when the outbox ids were allocated out of order
+    private int assignSequences(int batchSize) {
+        List<DeveloperOutboxEvent> events = developerOutboxEventRepository
+                .findByPublishedSequenceIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long sequence = developerOutboxEventRepository.findMaxPublishedSequence();
+        for (DeveloperOutboxEvent event : events) {
+            event.setPublishedSequence(++sequence);
+        }
+        return events.size();
+    }
+
+    // the newest relayed event is kept so the sequence never starts over;
+    // subscriber offsets and list validators depend on it only growing
+    @Scheduled(fixedDelayString = "${dmaker.outbox.cleanup-interval:PT1H}")
+    public void deleteExpiredEvents() {
+        int deleted = developerOutboxEventRepository.deletePublishedBefore(
+                LocalDateTime.now().minus(properties.getOutbox().getRetention()),
+                developerOutboxEventRepository.findMaxPublishedSequence());
+        if (deleted > 0) {
+            log.info("deleted {} relayed outbox events", deleted);
+        }
+    }
+}
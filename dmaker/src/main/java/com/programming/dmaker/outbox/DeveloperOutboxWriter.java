@@ -0,0 +1,66 @@
+package com.programming.dmaker.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import com.programming.dmaker.event.DeveloperSnapshot;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class DeveloperOutboxWriter {
+    private final DeveloperOutboxEventRepository developerOutboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // runs inside the publishing transaction, so the outbox row commits or
+    // rolls back together with the change it describes
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        developerOutboxEventRepository.save(DeveloperOutboxEvent.builder()
+                .changeType(event.getChangeType())
+                .memberId(event.getMemberId())
+                .changes(toJson(changedFields(event.getBefore(), event.getAfter())))
+                .build());
+    }
+
+    static Map<String, Object> changedFields(DeveloperSnapshot before, DeveloperSnapshot after) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "developerLevel", before, after, DeveloperSnapshot::getDeveloperLevel);
+        putIfChanged(changes, "developerSkillType", before, after, DeveloperSnapshot::getDeveloperSkillType);
+        putIfChanged(changes, "experienceYears", before, after, DeveloperSnapshot::getExperienceYears);
+        putIfChanged(changes, "statusCode", before, after, DeveloperSnapshot::getStatusCode);
+        return changes;
+    }
+
+    private static void putIfChanged(
+            Map<String, Object> changes, String field,
+            DeveloperSnapshot before, DeveloperSnapshot after,
+            Function<DeveloperSnapshot, Object> getter
+    ) {
+        Object value = after == null ? null : getter.apply(after);
+        if (before == null || !Objects.equals(getter.apply(before), value)) {
+            changes.put(field, value);
+        }
+    }
+
+    private String toJson(Map<String, Object> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
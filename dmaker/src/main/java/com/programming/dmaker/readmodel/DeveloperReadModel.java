@@ -0,0 +1,42 @@
+package com.programming.dmaker.readmodel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.dto.DeveloperDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Holds the current roster of employed developers. Stays empty (current()
+ * returns null) unless dmaker.read-model.enabled is set, in which case
+ * {@link DeveloperReadModelUpdater} loads it on startup and keeps it up to
+ * date; callers fall back to the database while it is empty.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeveloperReadModel {
+    private final ObjectMapper objectMapper;
+
+    private volatile DeveloperRoster roster;
+
+    public DeveloperRoster current() {
+        return roster;
+    }
+
+    DeveloperRoster load(Collection<DeveloperDto> developers) {
+        return DeveloperRoster.of(developers, objectMapper);
+    }
+
+    // the updater serializes all writes, so plain read-modify-write is enough
+    void replace(DeveloperRoster next) {
+        roster = next;
+    }
+
+    void apply(Collection<DeveloperDto> employed, Collection<String> memberIds) {
+        DeveloperRoster current = roster;
+        if (current != null) {
+            roster = current.apply(employed, memberIds);
+        }
+    }
+}
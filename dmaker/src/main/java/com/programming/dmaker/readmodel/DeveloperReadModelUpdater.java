@@ -0,0 +1,126 @@
+package com.programming.dmaker.readmodel;
+
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.outbox.DeveloperChangePublisher;
+import com.programming.dmaker.replication.DataSourceRouting;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.type.StatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.programming.dmaker.constant.DMakerConstant.IN_CLAUSE_CHUNK_SIZE;
+
+/**
+ * Loads the read model on startup, applies the changes of every instance to
+ * it as the outbox follower reads them back, and periodically checks it
+ * against the table.
+ * <p>
+ * Each batch re-reads the current rows of the memberIds it touches and is
+ * applied as one copy of the roster, so the order callbacks arrive in does
+ * not matter and a batch costs one rebuild however many changes it holds.
+ * All updates are serialized on this object, reloads included. The follower
+ * advances the change tracker only after this has run, so a list ETag is
+ * never newer than the roster it is sent with.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "dmaker.read-model", name = "enabled", havingValue = "true")
+public class DeveloperReadModelUpdater implements DeveloperChangePublisher {
+    private final DeveloperReadModel developerReadModel;
+    private final DeveloperRepository developerRepository;
+    private final Counter mismatches;
+
+    public DeveloperReadModelUpdater(
+            DeveloperReadModel developerReadModel, DeveloperRepository developerRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.developerReadModel = developerReadModel;
+        this.developerRepository = developerRepository;
+        this.mismatches = meterRegistry.counter("dmaker.read-model.mismatches");
+        meterRegistry.gauge("dmaker.read-model.size", developerReadModel, model -> {
+            DeveloperRoster roster = model.current();
+            return roster == null ? 0 : roster.size();
+        });
+    }
+
+    // a roster that could not be updated is dropped, so reads go to the
+    // database until verify() reloads it
+    @Override
+    public synchronized void publish(List<DeveloperChangeMessage> messages) {
+        if (developerReadModel.current() == null) {
+            return;
+        }
+        List<String> memberIds = messages.stream()
+                .map(DeveloperChangeMessage::getMemberId)
+                .distinct()
+                .collect(Collectors.toList());
+        try {
+            developerReadModel.apply(loadEmployed(memberIds), memberIds);
+        } catch (RuntimeException e) {
+            developerReadModel.replace(null);
+            throw e;
+        }
+    }
+
+    // serializes once up front so the first list request doesn't pay for it
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        DeveloperRoster roster = loadRoster();
+        roster.getDevelopers().getJson();
+        developerReadModel.replace(roster);
+        log.info("developer read model loaded with {} developers", roster.size());
+    }
+
+    // returns true when the roster had drifted from the table and was replaced
+    @Scheduled(
+            initialDelayString = "${dmaker.read-model.verify-interval:PT10M}",
+            fixedDelayString = "${dmaker.read-model.verify-interval:PT10M}")
+    public synchronized boolean verify() {
+        DeveloperRoster current = developerReadModel.current();
+        DeveloperRoster loaded = loadRoster();
+        if (current == null) {
+            developerReadModel.replace(loaded);
+            return false;
+        }
+
+        Set<String> differences = current.differences(loaded);
+        if (differences.isEmpty()) {
+            return false;
+        }
+        mismatches.increment(differences.size());
+        log.warn("developer read model drifted from the table for {} and was reloaded",
+                differences);
+        developerReadModel.replace(loaded);
+        return true;
+    }
+
+    // a lagging replica would show the model as stale when it isn't
+    private DeveloperRoster loadRoster() {
+        return DataSourceRouting.onPrimary(() -> developerReadModel.load(
+                developerRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED)));
+    }
+
+    private List<DeveloperDto> loadEmployed(List<String> memberIds) {
+        return DataSourceRouting.onPrimary(() -> {
+            List<DeveloperDto> employed = new ArrayList<>();
+            for (int from = 0; from < memberIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                employed.addAll(developerRepository.findDeveloperDtosByStatusCodeAndMemberIdIn(
+                        StatusCode.EMPLOYED,
+                        memberIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, memberIds.size()))));
+            }
+            return employed;
+        });
+    }
+}
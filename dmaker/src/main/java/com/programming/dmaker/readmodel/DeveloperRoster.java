@@ -0,0 +1,133 @@
+package com.programming.dmaker.readmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Immutable snapshot of the employed developers with its indexes. Changes
+ * build a new roster; readers only ever follow one reference, so nothing
+ * they touch is locked or allocated.
+ */
+public class DeveloperRoster {
+    private final Map<String, DeveloperDto> byMemberId;
+    private final SerializedDeveloperList developers;
+    private final Map<DeveloperLevel, List<DeveloperDto>> byLevel =
+            new EnumMap<>(DeveloperLevel.class);
+    private final Map<DeveloperSkillType, List<DeveloperDto>> bySkillType =
+            new EnumMap<>(DeveloperSkillType.class);
+    private final ObjectMapper objectMapper;
+
+    private DeveloperRoster(Map<String, DeveloperDto> byMemberId, ObjectMapper objectMapper) {
+        this.byMemberId = Collections.unmodifiableMap(byMemberId);
+        this.objectMapper = objectMapper;
+
+        List<DeveloperDto> all = Collections.unmodifiableList(new ArrayList<>(byMemberId.values()));
+        this.developers = new SerializedDeveloperList(all, this::serialize);
+
+        for (DeveloperLevel level : DeveloperLevel.values()) {
+            byLevel.put(level, new ArrayList<>());
+        }
+        for (DeveloperSkillType skillType : DeveloperSkillType.values()) {
+            bySkillType.put(skillType, new ArrayList<>());
+        }
+        for (DeveloperDto developer : all) {
+            byLevel.get(developer.getDeveloperLevel()).add(developer);
+            bySkillType.get(developer.getDeveloperSkillType()).add(developer);
+        }
+        byLevel.replaceAll((level, list) -> Collections.unmodifiableList(list));
+        bySkillType.replaceAll((skillType, list) -> Collections.unmodifiableList(list));
+    }
+
+    public static DeveloperRoster of(Collection<DeveloperDto> developers, ObjectMapper objectMapper) {
+        Map<String, DeveloperDto> byMemberId = new LinkedHashMap<>();
+        for (DeveloperDto developer : developers) {
+            byMemberId.put(developer.getMemberId(), developer);
+        }
+        return new DeveloperRoster(byMemberId, objectMapper);
+    }
+
+    /**
+     * Returns a roster with the given memberIds replaced in place by their
+     * entry in {@code employed}, or removed when they have none. A whole batch
+     * of changes costs one copy, however many memberIds it touches.
+     */
+    DeveloperRoster apply(Collection<DeveloperDto> employed, Collection<String> memberIds) {
+        Map<String, DeveloperDto> found = new HashMap<>();
+        for (DeveloperDto developer : employed) {
+            found.put(developer.getMemberId(), developer);
+        }
+        if (found.isEmpty() && memberIds.stream().noneMatch(byMemberId::containsKey)) {
+            return this;
+        }
+        Map<String, DeveloperDto> next = new LinkedHashMap<>(byMemberId);
+        for (String memberId : memberIds) {
+            DeveloperDto developer = found.get(memberId);
+            if (developer == null) {
+                next.remove(memberId);
+            } else {
+                next.put(memberId, developer);
+            }
+        }
+        return new DeveloperRoster(next, objectMapper);
+    }
+
+    public SerializedDeveloperList getDevelopers() {
+        return developers;
+    }
+
+    // null when the memberId is not an employed developer
+    public DeveloperDto get(String memberId) {
+        return byMemberId.get(memberId);
+    }
+
+    public List<DeveloperDto> getByLevel(DeveloperLevel developerLevel) {
+        return byLevel.get(developerLevel);
+    }
+
+    public List<DeveloperDto> getBySkillType(DeveloperSkillType developerSkillType) {
+        return bySkillType.get(developerSkillType);
+    }
+
+    public int size() {
+        return byMemberId.size();
+    }
+
+    /**
+     * Returns the memberIds whose entry differs between the two rosters,
+     * present in only one of them included.
+     */
+    Set<String> differences(DeveloperRoster other) {
+        Set<String> memberIds = new TreeSet<>();
+        for (DeveloperDto developer : byMemberId.values()) {
+            if (!sameDeveloper(developer, other.get(developer.getMemberId()))) {
+                memberIds.add(developer.getMemberId());
+            }
+        }
+        for (String memberId : other.byMemberId.keySet()) {
+            if (!byMemberId.containsKey(memberId)) {
+                memberIds.add(memberId);
+            }
+        }
+        return memberIds;
+    }
+
+    private static boolean sameDeveloper(DeveloperDto developer, DeveloperDto other) {
+        return other != null
+                && developer.getDeveloperLevel() == other.getDeveloperLevel()
+                && developer.getDeveloperSkillType() == other.getDeveloperSkillType();
+    }
+
+    private byte[] serialize(List<DeveloperDto> developers) {
+        try {
+            return objectMapper.writeValueAsBytes(developers);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
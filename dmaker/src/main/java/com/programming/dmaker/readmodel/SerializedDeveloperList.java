@@ -0,0 +1,47 @@
+package com.programming.dmaker.readmodel;
+
+import com.programming.dmaker.dto.DeveloperDto;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only list of developers that carries its own JSON form. The bytes are
+ * produced on first use and then kept, so a roster that is fetched many
+ * times between two writes is serialized once.
+ */
+public class SerializedDeveloperList extends AbstractList<DeveloperDto> implements RandomAccess {
+    private final List<DeveloperDto> developers;
+    private final Function<List<DeveloperDto>, byte[]> serializer;
+    // racing first readers may both serialize; the results are identical
+    private volatile byte[] json;
+
+    SerializedDeveloperList(
+            List<DeveloperDto> developers, Function<List<DeveloperDto>, byte[]> serializer
+    ) {
+        this.developers = developers;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public DeveloperDto get(int index) {
+        return developers.get(index);
+    }
+
+    @Override
+    public int size() {
+        return developers.size();
+    }
+
+    // callers must not modify the returned array
+    public byte[] getJson() {
+        byte[] bytes = json;
+        if (bytes == null) {
+            bytes = serializer.apply(developers);
+            json = bytes;
+        }
+        return bytes;
+    }
+}
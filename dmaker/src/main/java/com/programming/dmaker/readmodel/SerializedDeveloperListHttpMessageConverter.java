@@ -0,0 +1,50 @@
+package com.programming.dmaker.readmodel;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link SerializedDeveloperList} as its cached JSON bytes. Other
+ * media types (Smile) fall through to the Jackson converters.
+ */
+public class SerializedDeveloperListHttpMessageConverter
+        extends AbstractHttpMessageConverter<SerializedDeveloperList> {
+
+    public SerializedDeveloperListHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SerializedDeveloperList.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SerializedDeveloperList readInternal(
+            Class<? extends SerializedDeveloperList> clazz, HttpInputMessage inputMessage
+    ) {
+        throw new HttpMessageNotReadableException("not readable", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(SerializedDeveloperList developers, MediaType contentType) {
+        return (long) developers.getJson().length;
+    }
+
+    @Override
+    protected void writeInternal(
+            SerializedDeveloperList developers, HttpOutputMessage outputMessage
+    ) throws IOException {
+        outputMessage.getBody().write(developers.getJson());
+    }
+}
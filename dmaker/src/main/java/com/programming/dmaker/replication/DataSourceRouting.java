@@ -0,0 +1,31 @@
+package com.programming.dmaker.replication;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that sends read-only work to the primary, for reads
+ * that must see a write the replicas may not have applied yet. Has no effect
+ * when no replicas are configured.
+ */
+public final class DataSourceRouting {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        if (isPrimaryRequired()) {
+            return supplier.get();
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.programming.dmaker.replication;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which developers were written within the read-your-writes window,
+ * so reads of them keep going to the primary until the replicas have had time
+ * to catch up. Writes are marked before commit: marking early only costs a
+ * few primary reads, marking late would let a read race to a stale replica
+ * and put the stale row into the detail cache.
+ */
+@Component
+public class RecentWrites {
+    private final long windowNanos;
+    private final Map<String, Long> writtenAt = new ConcurrentHashMap<>();
+    private volatile long lastWriteAt;
+
+    public RecentWrites(DMakerProperties properties) {
+        this.windowNanos = properties.getReplication().getReadYourWritesWindow().toNanos();
+        this.lastWriteAt = System.nanoTime() - windowNanos - 1;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        writtenAt.put(event.getMemberId(), now);
+        lastWriteAt = now;
+    }
+
+    public boolean wasWrittenRecently(String memberId) {
+        Long at = writtenAt.get(memberId);
+        return at != null && System.nanoTime() - at <= windowNanos;
+    }
+
+    public boolean hasRecentWrites() {
+        return windowNanos > 0 && System.nanoTime() - lastWriteAt <= windowNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.replication.cleanup-interval:PT1M}")
+    public void removeExpired() {
+        long now = System.nanoTime();
+        writtenAt.values().removeIf(at -> now - at > windowNanos);
+    }
+}
@@ -0,0 +1,56 @@
+package com.programming.dmaker.repository;
+
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.entity.ArchivedDeveloper;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.programming.dmaker.constant.DMakerConstant.STREAM_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface ArchivedDeveloperRepository extends JpaRepository<ArchivedDeveloper, Long> {
+    boolean existsByMemberId(String memberId);
+
+    @Query("select a.memberId from ArchivedDeveloper a where a.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select a.memberId from ArchivedDeveloper a")
+    Stream<String> streamAllMemberIds();
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into ArchivedDeveloper (id, developerLevel, developerSkillType, experienceYears, " +
+            "memberId, name, age, statusCode, version, createdAt, updatedAt, archivedAt) " +
+            "select d.id, d.developerLevel, d.developerSkillType, d.experienceYears, " +
+            "d.memberId, d.name, d.age, d.statusCode, d.version, d.createdAt, d.updatedAt, :now " +
+            "from Developer d where d.id in :ids")
+    int insertFromDevelopers(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.programming.dmaker.dto.DeveloperDetailDto(" +
+            "a.developerLevel, a.developerSkillType, a.experienceYears, " +
+            "a.memberId, a.statusCode, a.name, a.age, a.version, a.updatedAt) " +
+            "from ArchivedDeveloper a where a.memberId = :memberId")
+    Optional<DeveloperDetailDto> findDeveloperDetailByMemberId(@Param("memberId") String memberId);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.programming.dmaker.dto.DeveloperDetailDto(" +
+            "a.developerLevel, a.developerSkillType, a.experienceYears, " +
+            "a.memberId, a.statusCode, a.name, a.age, a.version, a.updatedAt) " +
+            "from ArchivedDeveloper a where a.memberId in :memberIds")
+    List<DeveloperDetailDto> findDeveloperDetailsByMemberIdIn(
+            @Param("memberIds") Collection<String> memberIds);
+}
@@ -0,0 +1,43 @@
+package com.programming.dmaker.repository;
+
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeveloperOutboxEventRepository extends JpaRepository<DeveloperOutboxEvent, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DeveloperOutboxEvent> findByPublishedSequenceIsNullOrderByIdAsc(Pageable pageable);
+
+    @Query("select coalesce(max(e.publishedSequence), 0) from DeveloperOutboxEvent e")
+    long findMaxPublishedSequence();
+
+    Optional<DeveloperOutboxEvent> findFirstByPublishedSequenceIsNotNullOrderByPublishedSequenceDesc();
+
+    List<DeveloperOutboxEvent> findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(
+            Long publishedSequence, Pageable pageable);
+
+    @Query("select e.memberId from DeveloperOutboxEvent e where e.changeType = :changeType " +
+            "and (e.publishedSequence is null or e.publishedSequence > :publishedSequence)")
+    List<String> findMemberIdsSince(
+            @Param("changeType") DeveloperChangeType changeType,
+            @Param("publishedSequence") long publishedSequence);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DeveloperOutboxEvent e " +
+            "where e.publishedSequence < :keepFrom and e.createdAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("keepFrom") long keepFrom);
+}
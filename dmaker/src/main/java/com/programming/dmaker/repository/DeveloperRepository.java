@@ -1,16 +1,137 @@
 package com.programming.dmaker.repository;
 
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.dto.DeveloperMemberStatus;
+import com.programming.dmaker.dto.DeveloperStatsRow;
+import com.programming.dmaker.dto.DeveloperSummary;
 import com.programming.dmaker.entity.Developer;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
 import com.programming.dmaker.type.StatusCode;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.programming.dmaker.constant.DMakerConstant.STREAM_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
+public interface DeveloperRepository extends JpaRepository<Developer, Long>, DeveloperSearchRepository {
     Optional<Developer> findByMemberId(String memberId);
 
     List<Developer> findDevelopersByStatusCodeEquals(StatusCode statusCode);
+
+    @Query("select d.memberId from Developer d where d.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d where d.statusCode = :statusCode")
+    List<DeveloperDto> findDeveloperDtosByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d where d.statusCode = :statusCode and d.memberId in :memberIds")
+    List<DeveloperDto> findDeveloperDtosByStatusCodeAndMemberIdIn(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("memberIds") Collection<String> memberIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d.memberId as memberId, d.statusCode as statusCode, " +
+            "d.developerLevel as developerLevel, d.developerSkillType as developerSkillType, " +
+            "d.experienceYears as experienceYears " +
+            "from Developer d where d.memberId in :memberIds")
+    List<DeveloperMemberStatus> findMemberStatusesForUpdate(
+            @Param("memberIds") Collection<String> memberIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d.id from Developer d " +
+            "where d.statusCode = :statusCode and d.updatedAt < :cutoff order by d.id")
+    List<Long> findIdsToArchiveForUpdate(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from Developer d where d.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select d.memberId from Developer d where d.statusCode = :statusCode " +
+            "and (:developerLevel is null or d.developerLevel = :developerLevel) " +
+            "and (:developerSkillType is null or d.developerSkillType = :developerSkillType) " +
+            "order by d.id")
+    List<String> findMemberIdsByFilter(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("developerLevel") DeveloperLevel developerLevel,
+            @Param("developerSkillType") DeveloperSkillType developerSkillType,
+            Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Developer d set d.statusCode = :retired, d.updatedAt = :now, " +
+            "d.version = d.version + 1 " +
+            "where d.memberId in :memberIds and d.statusCode = :employed")
+    int updateStatusCodes(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("employed") StatusCode employed,
+            @Param("retired") StatusCode retired,
+            @Param("now") LocalDateTime now);
+
+    // one statement over both tables, so a row the archiver moves in between
+    // is counted exactly once
+    @Query(value = "select t.developer_level as developerLevel, " +
+            "t.developer_skill_type as developerSkillType, t.status_code as statusCode, " +
+            "count(*) as headcount, sum(t.experience_years) as experienceYearsSum " +
+            "from (select developer_level, developer_skill_type, status_code, experience_years " +
+            "from developer " +
+            "union all " +
+            "select developer_level, developer_skill_type, status_code, experience_years " +
+            "from archived_developer) t " +
+            "group by t.developer_level, t.developer_skill_type, t.status_code",
+            nativeQuery = true)
+    List<DeveloperStatsRow> countAllDevelopersByLevelAndSkillTypeAndStatus();
+
+    @Transactional(readOnly = true)
+    @Query("select new com.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, " +
+            "d.memberId, d.statusCode, d.name, d.age, d.version, d.updatedAt) " +
+            "from Developer d where d.memberId = :memberId")
+    Optional<DeveloperDetailDto> findDeveloperDetailByMemberId(@Param("memberId") String memberId);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, " +
+            "d.memberId, d.statusCode, d.name, d.age, d.version, d.updatedAt) " +
+            "from Developer d where d.memberId in :memberIds")
+    List<DeveloperDetailDto> findDeveloperDetailsByMemberIdIn(
+            @Param("memberIds") Collection<String> memberIds);
+
+    List<DeveloperSummary> findDevelopersByStatusCodeEqualsAndIdGreaterThanOrderByIdAsc(
+            StatusCode statusCode, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select d.memberId from Developer d")
+    Stream<String> streamAllMemberIds();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select new com.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d where d.statusCode = :statusCode order by d.id")
+    Stream<DeveloperDto> streamDeveloperDtosByStatusCode(@Param("statusCode") StatusCode statusCode);
 }
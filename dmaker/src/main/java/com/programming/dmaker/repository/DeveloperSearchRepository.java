@@ -0,0 +1,12 @@
+package com.programming.dmaker.repository;
+
+import com.programming.dmaker.dto.DeveloperSearchCondition;
+import com.programming.dmaker.dto.DeveloperSummary;
+
+import java.util.List;
+
+public interface DeveloperSearchRepository {
+    List<DeveloperSummary> searchDevelopers(DeveloperSearchCondition condition, Long afterId, int limit);
+
+    long countDevelopers(DeveloperSearchCondition condition);
+}
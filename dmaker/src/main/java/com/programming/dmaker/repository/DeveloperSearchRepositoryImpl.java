@@ -0,0 +1,109 @@
+package com.programming.dmaker.repository;
+
+import com.programming.dmaker.dto.DeveloperSearchCondition;
+import com.programming.dmaker.dto.DeveloperSummary;
+import com.programming.dmaker.entity.Developer;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class DeveloperSearchRepositoryImpl implements DeveloperSearchRepository {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<DeveloperSummary> searchDevelopers(
+            DeveloperSearchCondition condition, Long afterId, int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Developer> developer = query.from(Developer.class);
+
+        List<Predicate> predicates = toPredicates(cb, developer, condition);
+        predicates.add(cb.greaterThan(developer.get("id"), afterId));
+
+        query.multiselect(
+                        developer.get("id"),
+                        developer.get("developerLevel"),
+                        developer.get("developerSkillType"),
+                        developer.get("memberId"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(developer.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(SearchedDeveloper::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countDevelopers(DeveloperSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Developer> developer = query.from(Developer.class);
+
+        query.select(cb.count(developer))
+                .where(toPredicates(cb, developer, condition).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Predicate> toPredicates(
+            CriteriaBuilder cb, Root<Developer> developer, DeveloperSearchCondition condition
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.getStatusCode() != null) {
+            predicates.add(cb.equal(developer.get("statusCode"), condition.getStatusCode()));
+        }
+        if (condition.getDeveloperLevel() != null) {
+            predicates.add(cb.equal(developer.get("developerLevel"), condition.getDeveloperLevel()));
+        }
+        if (condition.getDeveloperSkillType() != null) {
+            predicates.add(cb.equal(developer.get("developerSkillType"), condition.getDeveloperSkillType()));
+        }
+        if (condition.getMinExperienceYears() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(
+                    developer.get("experienceYears"), condition.getMinExperienceYears()));
+        }
+        if (condition.getMaxExperienceYears() != null) {
+            predicates.add(cb.lessThanOrEqualTo(
+                    developer.get("experienceYears"), condition.getMaxExperienceYears()));
+        }
+        if (condition.getNamePrefix() != null && !condition.getNamePrefix().isEmpty()) {
+            predicates.add(cb.like(developer.get("name"),
+                    escapeLike(condition.getNamePrefix()) + "%", LIKE_ESCAPE));
+        }
+        return predicates;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    @Getter
+    private static class SearchedDeveloper implements DeveloperSummary {
+        private final Long id;
+        private final DeveloperLevel developerLevel;
+        private final DeveloperSkillType developerSkillType;
+        private final String memberId;
+
+        private SearchedDeveloper(Tuple tuple) {
+            this.id = tuple.get(0, Long.class);
+            this.developerLevel = tuple.get(1, DeveloperLevel.class);
+            this.developerSkillType = tuple.get(2, DeveloperSkillType.class);
+            this.memberId = tuple.get(3, String.class);
+        }
+    }
+}
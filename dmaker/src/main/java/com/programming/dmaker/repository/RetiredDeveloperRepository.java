@@ -1,9 +1,24 @@
 package com.programming.dmaker.repository;
 
 import com.programming.dmaker.entity.RetiredDeveloper;
+import com.programming.dmaker.type.StatusCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 @Repository
 public interface RetiredDeveloperRepository extends JpaRepository<RetiredDeveloper, Long> {
+    @Modifying(flushAutomatically = true)
+    @Query("insert into RetiredDeveloper (memberId, name, createdAt, updatedAt) " +
+            "select d.memberId, d.name, :now, :now from Developer d " +
+            "where d.memberId in :memberIds and d.statusCode = :statusCode")
+    int insertFromDevelopers(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode,
+            @Param("now") LocalDateTime now);
 }
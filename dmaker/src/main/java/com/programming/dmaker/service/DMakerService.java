@@ -1,40 +1,215 @@
 package com.programming.dmaker.service;
 
-import com.programming.dmaker.dto.CreateDeveloper;
-import com.programming.dmaker.dto.DeveloperDetailDto;
-import com.programming.dmaker.dto.DeveloperDto;
-import com.programming.dmaker.dto.EditDeveloper;
+import com.programming.dmaker.admission.WriteOperation;
+import com.programming.dmaker.cache.DeveloperChangeTracker;
+import com.programming.dmaker.cache.DeveloperChangeVersion;
+import com.programming.dmaker.cache.DeveloperDetailCache;
+import com.programming.dmaker.cache.DeveloperMemberIdFilter;
+import com.programming.dmaker.cache.SingleFlight;
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.*;
 import com.programming.dmaker.entity.Developer;
 import com.programming.dmaker.entity.RetiredDeveloper;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import com.programming.dmaker.event.DeveloperSnapshot;
 import com.programming.dmaker.exception.DMakerErrorCode;
 import com.programming.dmaker.exception.DMakerException;
+import com.programming.dmaker.readmodel.DeveloperReadModel;
+import com.programming.dmaker.readmodel.DeveloperRoster;
+import com.programming.dmaker.replication.DataSourceRouting;
+import com.programming.dmaker.replication.RecentWrites;
+import com.programming.dmaker.repository.ArchivedDeveloperRepository;
 import com.programming.dmaker.repository.DeveloperRepository;
 import com.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.programming.dmaker.stats.DeveloperStats;
 import com.programming.dmaker.type.DeveloperLevel;
 import com.programming.dmaker.type.StatusCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.programming.dmaker.constant.DMakerConstant.IN_CLAUSE_CHUNK_SIZE;
+import static com.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
 
 @Service
 @RequiredArgsConstructor
 public class DMakerService {
     private final DeveloperRepository developerRepository;
     private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DeveloperDetailCache developerDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DMakerProperties properties;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final DeveloperStats developerStats;
+    private final DeveloperChangeTracker developerChangeTracker;
+    private final SingleFlight<String, List<DeveloperDto>> developerListLoads;
+    private final DeveloperMemberIdFilter developerMemberIdFilter;
+    private final RecentWrites recentWrites;
+    private final DeveloperReadModel developerReadModel;
 
     @Transactional
+    @WriteOperation
     public CreateDeveloper.Response createDeveloper(CreateDeveloper.Request request) {
         validateCreateDeveloperRequest(request);
 
         Developer developer = createDeveloperFromRequest(request);
-        developerRepository.save(developer);
+        saveNewDeveloper(developer);
+        validateNotArchived(developer.getMemberId());
+        publishChange(DeveloperChangeType.CREATED, developer.getMemberId(),
+                null, DeveloperSnapshot.of(developer));
         return CreateDeveloper.Response.fromEntity(developer);
     }
 
+    @Transactional
+    @WriteOperation
+    public BulkCreateDeveloper.Response createDevelopers(List<CreateDeveloper.Request> requests) {
+        validateBulkSize(requests.size());
+
+        BulkCreateDeveloper.Result[] results = new BulkCreateDeveloper.Result[requests.size()];
+        Map<String, Integer> candidateIndexes = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            CreateDeveloper.Request request = requests.get(index);
+            try {
+                validateBulkCreateRow(request);
+            } catch (DMakerException e) {
+                results[index] = BulkCreateDeveloper.Result.failed(index,
+                        request == null ? null : request.getMemberId(),
+                        e.getDMakerErrorCode(), e.getDetailMessage());
+                continue;
+            }
+            if (candidateIndexes.putIfAbsent(request.getMemberId(), index) != null) {
+                results[index] = duplicatedResult(index, request.getMemberId());
+            }
+        }
+
+        for (String memberId : findExistingMemberIds(candidateIndexes.keySet())) {
+            Integer index = candidateIndexes.remove(memberId);
+            results[index] = duplicatedResult(index, memberId);
+        }
+
+        insertInBatches(requests, candidateIndexes.values());
+        for (Integer index : candidateIndexes.values()) {
+            CreateDeveloper.Request request = requests.get(index);
+            results[index] = BulkCreateDeveloper.Result.created(index, request.getMemberId());
+            publishChange(DeveloperChangeType.CREATED, request.getMemberId(), null,
+                    new DeveloperSnapshot(request.getDeveloperLevel(), request.getDeveloperSkillType(),
+                            StatusCode.EMPLOYED, request.getExperienceYears()));
+        }
+
+        return BulkCreateDeveloper.Response.builder()
+                .createdCount(candidateIndexes.size())
+                .failedCount(requests.size() - candidateIndexes.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void validateBulkSize(int size) {
+        int maxRows = properties.getBulk().getMaxRows();
+        if (size < 1 || size > maxRows) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "한 번에 1명 이상 " + maxRows + "명 이하의 개발자만 생성할 수 있습니다.");
+        }
+    }
+
+    private void validateBulkCreateRow(CreateDeveloper.Request request) {
+        if (request == null) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST);
+        }
+
+        Set<ConstraintViolation<CreateDeveloper.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        validateCreateDeveloperRequest(request);
+    }
+
+    private static BulkCreateDeveloper.Result duplicatedResult(Integer index, String memberId) {
+        return BulkCreateDeveloper.Result.failed(index, memberId,
+                DMakerErrorCode.DUPLICATED_MEMBER_ID,
+                DMakerErrorCode.DUPLICATED_MEMBER_ID.getMessage());
+    }
+
+    private List<String> findExistingMemberIds(Collection<String> memberIds) {
+        List<String> candidates = new ArrayList<>(memberIds);
+        List<String> existingMemberIds = new ArrayList<>();
+        for (int from = 0; from < candidates.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = candidates.subList(
+                    from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, candidates.size()));
+            existingMemberIds.addAll(developerRepository.findMemberIdsByMemberIdIn(chunk));
+            existingMemberIds.addAll(archivedDeveloperRepository.findMemberIdsByMemberIdIn(chunk));
+        }
+        return existingMemberIds;
+    }
+
+    // archived rows have left the hot table's unique index, but their
+    // memberIds stay taken. Checked after the insert: a row the archiver is
+    // moving still holds the hot table's unique key, so the insert waits for
+    // that move to commit and this lookup then sees it. The memberId filter
+    // knows every id ever created, archived ones included, so new memberIds
+    // skip the lookup.
+    private void validateNotArchived(String memberId) {
+        if (developerMemberIdFilter.mightContain(memberId)
+                && archivedDeveloperRepository.existsByMemberId(memberId)) {
+            throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+        }
+    }
+
+    // flush and clear per batch so inserts go out as JDBC batches and the
+    // persistence context stays bounded
+    private void insertInBatches(List<CreateDeveloper.Request> requests, Collection<Integer> indexes) {
+        int batchSize = properties.getBulk().getBatchSize();
+        List<Developer> batch = new ArrayList<>(batchSize);
+        try {
+            for (Integer index : indexes) {
+                batch.add(createDeveloperFromRequest(requests.get(index)));
+                if (batch.size() == batchSize) {
+                    flushBatch(batch);
+                }
+            }
+            flushBatch(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicatedMemberId(e)) {
+                throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+            }
+            throw e;
+        }
+    }
+
+    private void flushBatch(List<Developer> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        developerRepository.saveAll(batch);
+        developerRepository.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
     private Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
         return Developer.builder()
                 .developerLevel(request.getDeveloperLevel())
@@ -49,25 +224,202 @@ public class DMakerService {
 
     private void validateCreateDeveloperRequest(@NonNull CreateDeveloper.Request request) {
         validateDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
+    }
 
-        developerRepository.findByMemberId(request.getMemberId())
-                .ifPresent(developer -> {
-                    throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
-                });
+    // the unique constraint on memberId is the duplicate check; no SELECT before INSERT
+    private void saveNewDeveloper(Developer developer) {
+        try {
+            developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicatedMemberId(e)) {
+                throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+            }
+            throw e;
+        }
     }
 
-    @Transactional
+    private static boolean isDuplicatedMemberId(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException)) {
+            return false;
+        }
+        String constraintName = ((ConstraintViolationException) e.getCause()).getConstraintName();
+        return constraintName != null && constraintName.toLowerCase()
+                .contains(Developer.MEMBER_ID_UNIQUE_CONSTRAINT);
+    }
+
+    public DeveloperChangeVersion getDeveloperChangeVersion() {
+        return developerChangeTracker.current();
+    }
+
+    // served from the read model when it is enabled and loaded. Otherwise
+    // keyed by the change version so a caller never joins a load that started
+    // before a write it has already seen; not transactional, so callers waiting
+    // on someone else's load don't hold a connection. Read from the primary
+    // while replicas may still be missing a recent write.
     public List<DeveloperDto> getAllDevelopers() {
-        return developerRepository.findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
-                .stream().map(DeveloperDto::fromEntity)
-                .collect(Collectors.toList());
+        DeveloperRoster roster = developerReadModel.current();
+        if (roster != null) {
+            return roster.getDevelopers();
+        }
+
+        Supplier<List<DeveloperDto>> load = () -> Collections.unmodifiableList(
+                developerRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED));
+        return developerListLoads.execute(developerChangeTracker.current().getTag(),
+                recentWrites.hasRecentWrites() ? () -> DataSourceRouting.onPrimary(load) : load);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public DeveloperPageDto getDevelopers(String cursor, Integer size) {
+        validatePageSize(size);
+
+        List<DeveloperSummary> developers = developerRepository
+                .findDevelopersByStatusCodeEqualsAndIdGreaterThanOrderByIdAsc(
+                        StatusCode.EMPLOYED, DeveloperCursor.decode(cursor),
+                        PageRequest.of(0, size + 1));
+        return toPage(developers, size).build();
+    }
+
+    // keyset paged like getDevelopers; the count query only runs when asked for
+    @Transactional(readOnly = true)
+    public DeveloperPageDto searchDevelopers(
+            DeveloperSearchCondition condition, String cursor, Integer size, boolean withCount
+    ) {
+        validatePageSize(size);
+        validateSearchCondition(condition);
+
+        List<DeveloperSummary> developers = developerRepository.searchDevelopers(
+                condition, DeveloperCursor.decode(cursor), size + 1);
+        return toPage(developers, size)
+                .totalCount(withCount ? developerRepository.countDevelopers(condition) : null)
+                .build();
+    }
+
+    private static DeveloperPageDto.DeveloperPageDtoBuilder toPage(
+            List<DeveloperSummary> developers, int size
+    ) {
+        boolean hasNext = developers.size() > size;
+        List<DeveloperSummary> page = hasNext ? developers.subList(0, size) : developers;
+
+        return DeveloperPageDto.builder()
+                .developers(page.stream().map(DeveloperDto::fromSummary)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext
+                        ? DeveloperCursor.encode(page.get(size - 1).getId()) : null);
+    }
+
+    private void validateSearchCondition(DeveloperSearchCondition condition) {
+        Integer min = condition.getMinExperienceYears();
+        Integer max = condition.getMaxExperienceYears();
+        if ((min != null && min < 0) || (max != null && max < 0)
+                || (min != null && max != null && min > max)) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "연차 범위가 올바르지 않습니다.");
+        }
+    }
+
+    private void validatePageSize(Integer size) {
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllDevelopers(Consumer<DeveloperDto> consumer) {
+        try (Stream<DeveloperDto> developers = developerRepository
+                .streamDeveloperDtosByStatusCode(StatusCode.EMPLOYED)) {
+            developers.forEach(consumer);
+        }
+    }
+
+    // served outside a service transaction so cache hits never borrow a connection
     public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return DeveloperDetailDto.fromEntity(getDeveloperByMemberId(memberId));
+        if (!developerMemberIdFilter.mightContain(memberId)) {
+            throw new DMakerException(DMakerErrorCode.NO_DEVELOPER);
+        }
+        return developerDetailCache
+                .get(memberId, this::findDeveloperDetail)
+                .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+    }
+
+    // a developer written moments ago is read from the primary, so neither the
+    // caller nor the detail cache sees what a lagging replica still has
+    private Optional<DeveloperDetailDto> findDeveloperDetail(String memberId) {
+        if (recentWrites.wasWrittenRecently(memberId)) {
+            return DataSourceRouting.onPrimary(() -> loadDeveloperDetail(memberId));
+        }
+        return loadDeveloperDetail(memberId);
+    }
+
+    // the archive is only consulted for memberIds the hot table no longer has
+    private Optional<DeveloperDetailDto> loadDeveloperDetail(String memberId) {
+        Optional<DeveloperDetailDto> developerDetail =
+                developerRepository.findDeveloperDetailByMemberId(memberId);
+        if (developerDetail.isPresent()) {
+            return developerDetail;
+        }
+        return archivedDeveloperRepository.findDeveloperDetailByMemberId(memberId);
+    }
+
+    // cache hits are answered as they are and the misses with one IN query per
+    // chunk; unknown memberIds are reported instead of failing the whole call
+    public GetDeveloperDetails.Response getDeveloperDetails(List<String> memberIds) {
+        int maxMemberIds = properties.getMultiGet().getMaxMemberIds();
+        if (memberIds == null || memberIds.isEmpty() || memberIds.size() > maxMemberIds) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "memberIds는 1개 이상 " + maxMemberIds + "개 이하여야 합니다.");
+        }
+
+        Set<String> requestedMemberIds = new LinkedHashSet<>(memberIds);
+        List<String> candidates = requestedMemberIds.stream()
+                .filter(developerMemberIdFilter::mightContain)
+                .collect(Collectors.toList());
+        Map<String, Optional<DeveloperDetailDto>> found =
+                developerDetailCache.getAll(candidates, this::findDeveloperDetails);
+
+        Map<String, DeveloperDetailDto> developers = new LinkedHashMap<>();
+        List<String> notFoundMemberIds = new ArrayList<>();
+        for (String memberId : requestedMemberIds) {
+            Optional<DeveloperDetailDto> developerDetail =
+                    found.getOrDefault(memberId, Optional.empty());
+            if (developerDetail.isPresent()) {
+                developers.put(memberId, developerDetail.get());
+            } else {
+                notFoundMemberIds.add(memberId);
+            }
+        }
+        return GetDeveloperDetails.Response.builder()
+                .developers(developers)
+                .notFoundMemberIds(notFoundMemberIds)
+                .build();
     }
 
+    private Map<String, DeveloperDetailDto> findDeveloperDetails(Collection<String> memberIds) {
+        if (memberIds.stream().anyMatch(recentWrites::wasWrittenRecently)) {
+            return DataSourceRouting.onPrimary(() -> loadDeveloperDetails(memberIds));
+        }
+        return loadDeveloperDetails(memberIds);
+    }
+
+    private Map<String, DeveloperDetailDto> loadDeveloperDetails(Collection<String> memberIds) {
+        List<String> candidates = new ArrayList<>(memberIds);
+        Map<String, DeveloperDetailDto> developerDetails = new HashMap<>();
+        for (int from = 0; from < candidates.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            developerRepository.findDeveloperDetailsByMemberIdIn(candidates.subList(
+                            from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, candidates.size())))
+                    .forEach(detail -> developerDetails.put(detail.getMemberId(), detail));
+        }
+
+        List<String> archivedCandidates = candidates.stream()
+                .filter(memberId -> !developerDetails.containsKey(memberId))
+                .collect(Collectors.toList());
+        for (int from = 0; from < archivedCandidates.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            archivedDeveloperRepository.findDeveloperDetailsByMemberIdIn(archivedCandidates.subList(
+                            from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, archivedCandidates.size())))
+                    .forEach(detail -> developerDetails.put(detail.getMemberId(), detail));
+        }
+        return developerDetails;
+    }
 
     private Developer getDeveloperByMemberId(String memberId) {
         return developerRepository.findByMemberId(memberId).orElseThrow(
@@ -75,11 +427,48 @@ public class DMakerService {
         );
     }
 
-    @Transactional
+    @WriteOperation
     public DeveloperDetailDto editDeveloper(String memberId, EditDeveloper.Request request) {
+        return editDeveloper(memberId, request, null);
+    }
+
+    // an edit writes absolute values, so an unconditional one can safely be
+    // retried against the latest version; a conditional one (If-Match) fails
+    // fast instead
+    @WriteOperation
+    public DeveloperDetailDto editDeveloper(
+            String memberId, EditDeveloper.Request request, Long expectedVersion
+    ) {
         validateDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
 
-        Developer developer = getUpdatedDeveloperFromRequest(request, getDeveloperByMemberId(memberId));
+        int maxAttempts = expectedVersion == null ? properties.getEdit().getMaxAttempts() : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        editDeveloperInTransaction(memberId, request, expectedVersion));
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersion != null) {
+                    throw new DMakerException(DMakerErrorCode.DEVELOPER_VERSION_NOT_MATCHED);
+                }
+                if (attempt >= maxAttempts) {
+                    throw new DMakerException(DMakerErrorCode.DEVELOPER_UPDATE_CONFLICT);
+                }
+            }
+        }
+    }
+
+    private DeveloperDetailDto editDeveloperInTransaction(
+            String memberId, EditDeveloper.Request request, Long expectedVersion
+    ) {
+        Developer developer = getDeveloperByMemberId(memberId);
+        if (expectedVersion != null && !expectedVersion.equals(developer.getVersion())) {
+            throw new DMakerException(DMakerErrorCode.DEVELOPER_VERSION_NOT_MATCHED);
+        }
+
+        DeveloperSnapshot before = DeveloperSnapshot.of(developer);
+        getUpdatedDeveloperFromRequest(request, developer);
+        developerRepository.flush();
+        publishChange(DeveloperChangeType.EDITED, memberId, before, DeveloperSnapshot.of(developer));
         return DeveloperDetailDto.fromEntity(developer);
     }
 
@@ -100,9 +489,22 @@ public class DMakerService {
     }
 
     @Transactional
+    @WriteOperation
     public DeveloperDetailDto deleteDeveloper(String memberId) {
         // EMPLOYED -> RETIRED
-        Developer developer = getDeveloperByMemberId(memberId);
+        Optional<Developer> found = developerRepository.findByMemberId(memberId);
+        // an archived developer was retired before it was moved, so deleting
+        // it answers like a repeated delete
+        if (found.isEmpty()) {
+            return archivedDeveloperRepository.findDeveloperDetailByMemberId(memberId)
+                    .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+        }
+        Developer developer = found.get();
+        // a repeated delete must not add a second RetiredDeveloper row
+        if (developer.getStatusCode() == StatusCode.RETIRED) {
+            return DeveloperDetailDto.fromEntity(developer);
+        }
+        DeveloperSnapshot before = DeveloperSnapshot.of(developer);
         developer.setStatusCode(StatusCode.RETIRED);
 
         // Save into RetiredDeveloper
@@ -111,7 +513,118 @@ public class DMakerService {
                 .name(developer.getName())
                 .build();
         retiredDeveloperRepository.save(retiredDeveloper);
+        publishChange(DeveloperChangeType.RETIRED, memberId, before, DeveloperSnapshot.of(developer));
 
         return DeveloperDetailDto.fromEntity(developer);
     }
+
+    @Transactional
+    @WriteOperation
+    public RetireDevelopers.Response retireDevelopers(RetireDevelopers.Request request) {
+        List<String> memberIds = resolveMemberIdsToRetire(request);
+
+        List<String> retiredMemberIds = new ArrayList<>();
+        List<DeveloperMemberStatus> retiredStatuses = new ArrayList<>();
+        List<String> alreadyRetiredMemberIds = new ArrayList<>();
+        Set<String> foundMemberIds = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < memberIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = memberIds.subList(
+                    from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, memberIds.size()));
+
+            List<String> employedMemberIds = new ArrayList<>();
+            for (DeveloperMemberStatus memberStatus
+                    : developerRepository.findMemberStatusesForUpdate(chunk)) {
+                foundMemberIds.add(memberStatus.getMemberId());
+                if (memberStatus.getStatusCode() == StatusCode.EMPLOYED) {
+                    employedMemberIds.add(memberStatus.getMemberId());
+                    retiredStatuses.add(memberStatus);
+                } else {
+                    alreadyRetiredMemberIds.add(memberStatus.getMemberId());
+                }
+            }
+            if (employedMemberIds.isEmpty()) {
+                continue;
+            }
+
+            // INSERT ... SELECT must run while the rows are still EMPLOYED
+            retiredDeveloperRepository.insertFromDevelopers(
+                    employedMemberIds, StatusCode.EMPLOYED, now);
+            developerRepository.updateStatusCodes(
+                    employedMemberIds, StatusCode.EMPLOYED, StatusCode.RETIRED, now);
+            retiredMemberIds.addAll(employedMemberIds);
+        }
+
+        for (DeveloperMemberStatus memberStatus : retiredStatuses) {
+            publishChange(DeveloperChangeType.RETIRED, memberStatus.getMemberId(),
+                    toSnapshot(memberStatus, StatusCode.EMPLOYED),
+                    toSnapshot(memberStatus, StatusCode.RETIRED));
+        }
+        List<String> missingMemberIds = memberIds.stream()
+                .filter(memberId -> !foundMemberIds.contains(memberId))
+                .collect(Collectors.toList());
+        if (!missingMemberIds.isEmpty()) {
+            Set<String> archivedMemberIds = new HashSet<>(findArchivedMemberIds(missingMemberIds));
+            missingMemberIds.removeIf(archivedMemberIds::contains);
+            alreadyRetiredMemberIds.addAll(archivedMemberIds);
+        }
+        return RetireDevelopers.Response.builder()
+                .retiredMemberIds(retiredMemberIds)
+                .missingMemberIds(missingMemberIds)
+                .alreadyRetiredMemberIds(alreadyRetiredMemberIds)
+                .build();
+    }
+
+    private List<String> findArchivedMemberIds(List<String> memberIds) {
+        List<String> archivedMemberIds = new ArrayList<>();
+        for (int from = 0; from < memberIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            archivedMemberIds.addAll(archivedDeveloperRepository.findMemberIdsByMemberIdIn(
+                    memberIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, memberIds.size()))));
+        }
+        return archivedMemberIds;
+    }
+
+    private List<String> resolveMemberIdsToRetire(RetireDevelopers.Request request) {
+        int maxRows = properties.getBulk().getMaxRows();
+        List<String> memberIds = request.getMemberIds();
+        if (memberIds != null && !memberIds.isEmpty()) {
+            if (request.hasFilter()) {
+                throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                        "memberIds와 필터는 함께 사용할 수 없습니다.");
+            }
+            validateBulkSize(memberIds.size());
+            return new ArrayList<>(new LinkedHashSet<>(memberIds));
+        }
+
+        if (!request.hasFilter()) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "memberIds 또는 필터 조건이 필요합니다.");
+        }
+        // one extra row tells a filter that matches too many apart from one
+        // that fits exactly, so a bulk retire is never cut short silently
+        List<String> matched = developerRepository.findMemberIdsByFilter(StatusCode.EMPLOYED,
+                request.getDeveloperLevel(), request.getDeveloperSkillType(),
+                PageRequest.of(0, maxRows + 1));
+        if (matched.size() > maxRows) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST,
+                    "필터 조건에 해당하는 개발자가 " + maxRows + "명을 넘습니다. 조건을 좁혀 주세요.");
+        }
+        return matched;
+    }
+
+    private static DeveloperSnapshot toSnapshot(DeveloperMemberStatus memberStatus, StatusCode statusCode) {
+        return new DeveloperSnapshot(memberStatus.getDeveloperLevel(),
+                memberStatus.getDeveloperSkillType(), statusCode, memberStatus.getExperienceYears());
+    }
+
+    public DeveloperStatsDto getDeveloperStats() {
+        return developerStats.snapshot();
+    }
+
+    private void publishChange(
+            DeveloperChangeType changeType, String memberId,
+            DeveloperSnapshot before, DeveloperSnapshot after
+    ) {
+        eventPublisher.publishEvent(new DeveloperChangedEvent(changeType, memberId, before, after));
+    }
 }
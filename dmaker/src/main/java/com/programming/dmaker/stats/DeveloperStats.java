@@ -0,0 +1,173 @@
+package com.programming.dmaker.stats;
+
+import com.programming.dmaker.dto.DeveloperStatsDto;
+import com.programming.dmaker.dto.DeveloperStatsRow;
+import com.programming.dmaker.event.DeveloperSnapshot;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Headcount and experience-year sums per level x skill type x status,
+ * updated by deltas on every committed change and replaced wholesale on
+ * rebuild. Reads cost the size of the matrix, not the size of the table.
+ * <p>
+ * Deltas that arrive while a rebuild's query runs are recorded and applied
+ * again on top of its result, so they are not lost in the swap. A change
+ * that committed just before the query started but reports after recording
+ * began is counted twice until the next rebuild.
+ */
+@Component
+public class DeveloperStats {
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+
+    private volatile Matrix matrix = new Matrix();
+
+    // deltas recorded while a rebuild runs; null otherwise
+    private List<Delta> pending;
+
+    public void add(DeveloperSnapshot snapshot) {
+        apply(new Delta(snapshot, 1));
+    }
+
+    public void remove(DeveloperSnapshot snapshot) {
+        apply(new Delta(snapshot, -1));
+    }
+
+    private synchronized void apply(Delta delta) {
+        matrix.add(delta.snapshot, delta.sign);
+        if (pending != null) {
+            pending.add(delta);
+        }
+    }
+
+    // returns true when the rebuilt matrix differs from the one it replaces;
+    // rebuilds must not overlap
+    public boolean rebuild(Supplier<List<DeveloperStatsRow>> counter) {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        List<DeveloperStatsRow> rows;
+        try {
+            rows = counter.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        Matrix rebuilt = new Matrix();
+        for (DeveloperStatsRow row : rows) {
+            int cell = Matrix.index(row.getDeveloperLevel(), row.getDeveloperSkillType(), row.getStatusCode());
+            rebuilt.headcounts[cell].add(row.getHeadcount());
+            rebuilt.experienceYearsSums[cell].add(row.getExperienceYearsSum() == null
+                    ? 0 : row.getExperienceYearsSum());
+        }
+
+        synchronized (this) {
+            for (Delta delta : pending) {
+                rebuilt.add(delta.snapshot, delta.sign);
+            }
+            pending = null;
+            Matrix previous = matrix;
+            matrix = rebuilt;
+            return !previous.sameAs(rebuilt);
+        }
+    }
+
+    public boolean reset(List<DeveloperStatsRow> rows) {
+        return rebuild(() -> rows);
+    }
+
+    public DeveloperStatsDto snapshot() {
+        Matrix current = matrix;
+        List<DeveloperStatsDto.Cell> cells = new ArrayList<>();
+        long totalHeadcount = 0;
+        long totalExperienceYears = 0;
+        for (DeveloperLevel level : LEVELS) {
+            for (DeveloperSkillType skillType : SKILL_TYPES) {
+                for (StatusCode statusCode : STATUS_CODES) {
+                    int cell = Matrix.index(level, skillType, statusCode);
+                    long headcount = current.headcounts[cell].sum();
+                    if (headcount <= 0) {
+                        continue;
+                    }
+                    long experienceYears = current.experienceYearsSums[cell].sum();
+                    totalHeadcount += headcount;
+                    totalExperienceYears += experienceYears;
+                    cells.add(DeveloperStatsDto.Cell.builder()
+                            .developerLevel(level)
+                            .developerSkillType(skillType)
+                            .statusCode(statusCode)
+                            .headcount(headcount)
+                            .averageExperienceYears(average(experienceYears, headcount))
+                            .build());
+                }
+            }
+        }
+
+        return DeveloperStatsDto.builder()
+                .headcount(totalHeadcount)
+                .averageExperienceYears(average(totalExperienceYears, totalHeadcount))
+                .cells(cells)
+                .build();
+    }
+
+    private static Double average(long sum, long count) {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    @RequiredArgsConstructor
+    private static class Delta {
+        private final DeveloperSnapshot snapshot;
+        private final int sign;
+    }
+
+    private static class Matrix {
+        private static final int SIZE = LEVELS.length * SKILL_TYPES.length * STATUS_CODES.length;
+
+        private final LongAdder[] headcounts = newAdders();
+        private final LongAdder[] experienceYearsSums = newAdders();
+
+        private static int index(DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode) {
+            return (level.ordinal() * SKILL_TYPES.length + skillType.ordinal()) * STATUS_CODES.length
+                    + statusCode.ordinal();
+        }
+
+        private static LongAdder[] newAdders() {
+            LongAdder[] adders = new LongAdder[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+
+        private void add(DeveloperSnapshot snapshot, int sign) {
+            int cell = index(snapshot.getDeveloperLevel(), snapshot.getDeveloperSkillType(),
+                    snapshot.getStatusCode());
+            headcounts[cell].add(sign);
+            experienceYearsSums[cell].add((long) sign * snapshot.getExperienceYears());
+        }
+
+        private boolean sameAs(Matrix other) {
+            for (int i = 0; i < SIZE; i++) {
+                if (headcounts[i].sum() != other.headcounts[i].sum()
+                        || experienceYearsSums[i].sum() != other.experienceYearsSums[i].sum()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
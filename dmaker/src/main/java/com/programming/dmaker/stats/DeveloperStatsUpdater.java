@@ -0,0 +1,45 @@
+package com.programming.dmaker.stats;
+
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import com.programming.dmaker.repository.DeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperStatsUpdater {
+    private final DeveloperStats developerStats;
+    private final DeveloperRepository developerRepository;
+
+    @TransactionalEventListener
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (event.getBefore() != null) {
+            developerStats.remove(event.getBefore());
+        }
+        if (event.getAfter() != null) {
+            developerStats.add(event.getAfter());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        developerStats.rebuild(developerRepository::countAllDevelopersByLevelAndSkillTypeAndStatus);
+    }
+
+    // catches changes that bypass DMakerService and the rare delta counted
+    // twice around a rebuild
+    @Scheduled(
+            initialDelayString = "${dmaker.stats.reconcile-interval:PT10M}",
+            fixedDelayString = "${dmaker.stats.reconcile-interval:PT10M}")
+    public synchronized void reconcile() {
+        if (developerStats.rebuild(developerRepository::countAllDevelopersByLevelAndSkillTypeAndStatus)) {
+            log.warn("developer stats drifted from the table and were rebuilt");
+        }
+    }
+}
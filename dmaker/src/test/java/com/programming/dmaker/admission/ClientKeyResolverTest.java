@@ -0,0 +1,42 @@
+package com.programming.dmaker.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientKeyResolverTest {
+    private final ClientKeyResolver resolver =
+            new ClientKeyResolver("X-Client-Id", Collections.singletonList("10.0.0.1"));
+
+    private MockHttpServletRequest request(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+
+    @Test
+    void testHeaderIsIgnoredFromUntrustedAddresses() {
+        assertEquals("addr:192.168.0.7", resolver.resolve(request("192.168.0.7", "a")));
+        assertEquals("addr:192.168.0.7", resolver.resolve(request("192.168.0.7", "b")));
+    }
+
+    @Test
+    void testHeaderIsUsedFromTrustedProxies() {
+        assertEquals("client:a", resolver.resolve(request("10.0.0.1", "a")));
+        assertEquals("addr:10.0.0.1", resolver.resolve(request("10.0.0.1", null)));
+    }
+
+    @Test
+    void testPrincipalWins() {
+        MockHttpServletRequest request = request("10.0.0.1", "a");
+        request.setUserPrincipal(() -> "alice");
+
+        assertEquals("principal:alice", resolver.resolve(request));
+    }
+}
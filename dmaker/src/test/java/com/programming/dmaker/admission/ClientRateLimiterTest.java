@@ -0,0 +1,68 @@
+package com.programming.dmaker.admission;
+
+import com.programming.dmaker.config.DMakerProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+    private final AtomicLong now = new AtomicLong();
+    private final DMakerProperties.RateLimit settings = new DMakerProperties.RateLimit();
+    private final ClientRateLimiter limiter;
+
+    ClientRateLimiterTest() {
+        settings.setCapacity(2);
+        settings.setRefillPerSecond(1);
+        settings.setMaxClients(2);
+        limiter = new ClientRateLimiter(settings, now::get);
+    }
+
+    @Test
+    void testBurstIsLimitedToCapacityAndRefills() {
+        assertTrue(limiter.tryAcquire("a").isZero());
+        assertTrue(limiter.tryAcquire("a").isZero());
+
+        Duration retryAfter = limiter.tryAcquire("a");
+        assertEquals(Duration.ofSeconds(1), retryAfter);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(limiter.tryAcquire("a").isZero());
+    }
+
+    @Test
+    void testClientsHaveSeparateBuckets() {
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        assertFalse(limiter.tryAcquire("a").isZero());
+        assertTrue(limiter.tryAcquire("b").isZero());
+    }
+
+    @Test
+    void testLeastRecentlyUsedBucketIsEvictedPastTheLimit() {
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        limiter.tryAcquire("a");
+
+        assertTrue(limiter.tryAcquire("c").isZero());
+
+        assertEquals(2, limiter.getClientCount());
+        assertFalse(limiter.tryAcquire("a").isZero());
+    }
+
+    @Test
+    void testFullBucketsAreRemoved() {
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        limiter.tryAcquire("b");
+
+        limiter.removeIdleBuckets();
+
+        assertEquals(1, limiter.getClientCount());
+    }
+}
@@ -0,0 +1,89 @@
+package com.programming.dmaker.admission;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAdmissionAspectTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Writer writer;
+
+    WriteAdmissionAspectTest() {
+        DMakerProperties properties = new DMakerProperties();
+        properties.getAdmission().setMaxConcurrentWrites(1);
+        properties.getAdmission().setMaxWait(Duration.ofMillis(10));
+        properties.getAdmission().setRetryAfter(Duration.ofSeconds(2));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Writer(started, release));
+        factory.addAspect(new WriteAdmissionAspect(properties, meterRegistry));
+        writer = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void testWriteIsRejectedWhileAllPermitsAreTaken() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(writer::write);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        DMakerException dMakerException = assertThrows(DMakerException.class, writer::write);
+        assertEquals(DMakerErrorCode.TOO_MANY_REQUESTS, dMakerException.getDMakerErrorCode());
+        assertEquals(Duration.ofSeconds(2), dMakerException.getRetryAfter());
+
+        release.countDown();
+        assertEquals("written", running.get(5, TimeUnit.SECONDS));
+        assertEquals("written", writer.write());
+        assertEquals(2, meterRegistry.counter("dmaker.admission", "result", "accepted").count());
+        assertEquals(1, meterRegistry.counter("dmaker.admission", "result", "rejected").count());
+    }
+
+    @Test
+    void testPermitIsReleasedWhenTheWriteFails() {
+        release.countDown();
+
+        assertThrows(IllegalStateException.class, writer::fail);
+        assertEquals("written", writer.write());
+    }
+
+    static class Writer {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        Writer(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @WriteOperation
+        public String write() {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "written";
+        }
+
+        @WriteOperation
+        public String fail() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.programming.dmaker.archive;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.type.StatusCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperArchiverTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    private final DMakerProperties properties = new DMakerProperties();
+
+    private DeveloperArchiver developerArchiver;
+
+    @BeforeEach
+    void setUp() {
+        properties.getArchive().setChunkSize(2);
+        properties.getArchive().setMaxChunksPerRun(5);
+        developerArchiver = new DeveloperArchiver(developerRepository, archivedDeveloperRepository,
+                properties, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void testArchivesInChunksUntilShortChunk() {
+        given(developerRepository.findIdsToArchiveForUpdate(eq(StatusCode.RETIRED), any(), any()))
+                .willReturn(Arrays.asList(1L, 2L))
+                .willReturn(Arrays.asList(5L));
+
+        int archived = developerArchiver.archiveRetiredDevelopers();
+
+        assertEquals(3, archived);
+        verify(archivedDeveloperRepository).insertFromDevelopers(eq(Arrays.asList(1L, 2L)), any());
+        verify(developerRepository).deleteByIds(Arrays.asList(1L, 2L));
+        verify(archivedDeveloperRepository).insertFromDevelopers(eq(Arrays.asList(5L)), any());
+        verify(developerRepository).deleteByIds(Arrays.asList(5L));
+    }
+
+    @Test
+    void testStopsAtMaxChunksPerRun() {
+        given(developerRepository.findIdsToArchiveForUpdate(eq(StatusCode.RETIRED), any(), any()))
+                .willReturn(Arrays.asList(1L, 2L));
+
+        int archived = developerArchiver.archiveRetiredDevelopers();
+
+        assertEquals(10, archived);
+        verify(developerRepository, times(5)).deleteByIds(any());
+    }
+
+    @Test
+    void testNothingToArchive() {
+        given(developerRepository.findIdsToArchiveForUpdate(eq(StatusCode.RETIRED), any(), any()))
+                .willReturn(Collections.emptyList());
+
+        assertEquals(0, developerArchiver.archiveRetiredDevelopers());
+        verify(developerRepository, never()).deleteByIds(any());
+    }
+}
@@ -0,0 +1,112 @@
+package com.programming.dmaker.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordsFromManyThreadsAreAllWritten() throws Exception {
+        Path path = directory.resolve("audit.log");
+        AuditLog auditLog = new AuditLog(path, 64, 16, 1 << 20, 1, AuditLog.OverflowPolicy.BLOCK);
+        auditLog.start();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            int id = thread;
+            executorService.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    auditLog.record("createDeveloper", "member" + id + "-" + i, 1_500, "SUCCESS");
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        auditLog.close();
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(1000, lines.size());
+        assertEquals(1000, auditLog.getWrittenCount());
+        assertEquals(0, auditLog.getDroppedCount());
+        assertTrue(lines.get(0).contains("\"operation\":\"createDeveloper\""));
+        assertTrue(lines.get(0).contains("\"durationMicros\":1"));
+    }
+
+    @Test
+    void testIdleWriterIsWokenByTheNextRecord() throws Exception {
+        AuditLog auditLog = new AuditLog(directory.resolve("audit.log"), 16, 16, 1 << 20, 1,
+                AuditLog.OverflowPolicy.DROP);
+        auditLog.start();
+        auditLog.record("createDeveloper", "a", 0, "SUCCESS");
+        awaitWritten(auditLog, 1);
+
+        Thread.sleep(20);
+        auditLog.record("createDeveloper", "b", 0, "SUCCESS");
+
+        awaitWritten(auditLog, 2);
+        auditLog.close();
+    }
+
+    private static void awaitWritten(AuditLog auditLog, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (auditLog.getWrittenCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, auditLog.getWrittenCount());
+    }
+
+    @Test
+    void testRecordsAreDroppedWhenTheBufferIsFull() throws Exception {
+        AuditLog auditLog = new AuditLog(directory.resolve("audit.log"), 4, 16, 1 << 20, 1,
+                AuditLog.OverflowPolicy.DROP);
+
+        for (int i = 0; i < 6; i++) {
+            auditLog.record("deleteDeveloper", "member" + i, 0, "SUCCESS");
+        }
+
+        assertEquals(4, auditLog.getQueueSize());
+        assertEquals(2, auditLog.getDroppedCount());
+        auditLog.close();
+    }
+
+    @Test
+    void testFileIsRolledOverBySize() throws Exception {
+        Path path = directory.resolve("audit.log");
+        AuditLog auditLog = new AuditLog(path, 16, 1, 200, 2, AuditLog.OverflowPolicy.BLOCK);
+        auditLog.start();
+
+        for (int i = 0; i < 10; i++) {
+            auditLog.record("editDeveloper", "member" + i, 0, "SUCCESS");
+        }
+        auditLog.close();
+
+        assertTrue(Files.exists(path));
+        assertTrue(Files.exists(directory.resolve("audit.log.1")));
+        assertTrue(Files.exists(directory.resolve("audit.log.2")));
+        assertFalse(Files.exists(directory.resolve("audit.log.3")));
+        assertTrue(Files.size(path) <= 200);
+    }
+
+    @Test
+    void testMemberIdIsEscaped() throws Exception {
+        Path path = directory.resolve("audit.log");
+        AuditLog auditLog = new AuditLog(path, 16, 16, 1 << 20, 1, AuditLog.OverflowPolicy.DROP);
+        auditLog.start();
+
+        auditLog.record("createDeveloper", "a\"b", 0, "SUCCESS");
+        auditLog.close();
+
+        assertTrue(Files.readString(path).contains("\"memberId\":\"a\\\"b\""));
+    }
+}
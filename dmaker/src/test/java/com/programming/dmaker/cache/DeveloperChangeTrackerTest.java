@@ -0,0 +1,34 @@
+package com.programming.dmaker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperChangeTrackerTest {
+    @Test
+    void tagFollowsTheSharedSequence() {
+        DeveloperChangeTracker tracker = new DeveloperChangeTracker();
+        assertEquals(Instant.EPOCH, tracker.current().getLastModified());
+
+        tracker.advance(5L, LocalDateTime.of(2021, 7, 1, 10, 0));
+
+        assertEquals("5", tracker.current().getTag());
+        assertNotEquals(Instant.EPOCH, tracker.current().getLastModified());
+    }
+
+    @Test
+    void tagsMatchAcrossInstancesAtTheSameSequence() {
+        DeveloperChangeTracker first = new DeveloperChangeTracker();
+        DeveloperChangeTracker second = new DeveloperChangeTracker();
+        LocalDateTime changedAt = LocalDateTime.of(2021, 7, 1, 10, 0);
+
+        first.advance(7L, changedAt);
+        second.advance(7L, changedAt);
+
+        assertEquals(first.current().getTag(), second.current().getTag());
+        assertEquals(first.current().getLastModified(), second.current().getLastModified());
+    }
+}
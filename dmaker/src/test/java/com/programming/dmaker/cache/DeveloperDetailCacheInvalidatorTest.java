@@ -0,0 +1,31 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperDetailCacheInvalidatorTest {
+    @Mock
+    private DeveloperDetailCache developerDetailCache;
+
+    @Test
+    void testFollowedChangesEvictEachMemberOnce() {
+        DeveloperDetailCacheInvalidator invalidator = new DeveloperDetailCacheInvalidator(developerDetailCache);
+
+        invalidator.publish(Arrays.asList(
+                DeveloperChangeMessage.builder().sequence(1L).memberId("a").build(),
+                DeveloperChangeMessage.builder().sequence(2L).memberId("b").build(),
+                DeveloperChangeMessage.builder().sequence(3L).memberId("a").build()));
+
+        verify(developerDetailCache, times(1)).evict("a");
+        verify(developerDetailCache, times(1)).evict("b");
+    }
+}
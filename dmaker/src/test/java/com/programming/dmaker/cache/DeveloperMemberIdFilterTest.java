@@ -0,0 +1,82 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import com.programming.dmaker.repository.DeveloperRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperMemberIdFilterTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private DeveloperOutboxEventRepository developerOutboxEventRepository;
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private DeveloperMemberIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new DeveloperMemberIdFilter(developerRepository, developerOutboxEventRepository,
+                archivedDeveloperRepository, transactionTemplate, new DMakerProperties(),
+                new SimpleMeterRegistry());
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(developerRepository.streamAllMemberIds()).willReturn(Stream.of("local"));
+        given(archivedDeveloperRepository.streamAllMemberIds()).willReturn(Stream.empty());
+    }
+
+    @Test
+    void followsCreatesCommittedElsewhere() {
+        given(developerOutboxEventRepository.findMaxPublishedSequence()).willReturn(7L, 9L);
+        given(developerOutboxEventRepository.findMemberIdsSince(DeveloperChangeType.CREATED, 7L))
+                .willReturn(Collections.singletonList("remote"));
+        filter.rebuild();
+        assertTrue(filter.mightContain("local"));
+        assertFalse(filter.mightContain("remote"));
+
+        filter.follow();
+
+        assertTrue(filter.mightContain("remote"));
+    }
+
+    @Test
+    void followResumesAfterTheLastSeenSequence() {
+        given(developerOutboxEventRepository.findMaxPublishedSequence()).willReturn(7L, 9L, 9L);
+        given(developerOutboxEventRepository.findMemberIdsSince(any(), any(Long.class)))
+                .willReturn(Collections.emptyList());
+        filter.rebuild();
+
+        filter.follow();
+        filter.follow();
+
+        then(developerOutboxEventRepository).should()
+                .findMemberIdsSince(DeveloperChangeType.CREATED, 7L);
+        then(developerOutboxEventRepository).should()
+                .findMemberIdsSince(DeveloperChangeType.CREATED, 9L);
+    }
+}
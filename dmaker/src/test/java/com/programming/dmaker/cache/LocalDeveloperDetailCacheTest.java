@@ -0,0 +1,150 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalDeveloperDetailCacheTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final LocalDeveloperDetailCache cache = new LocalDeveloperDetailCache(
+            2, Duration.ofSeconds(10), Duration.ofSeconds(1), now::get);
+
+    private Optional<DeveloperDetailDto> load(String memberId) {
+        loadCount.incrementAndGet();
+        if (memberId.startsWith("unknown")) {
+            return Optional.empty();
+        }
+        return Optional.of(DeveloperDetailDto.builder().memberId(memberId).build());
+    }
+
+    @Test
+    void testHitAndMiss() {
+        cache.get("a", this::load);
+        Optional<DeveloperDetailDto> cached = cache.get("a", this::load);
+
+        assertEquals("a", cached.get().getMemberId());
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.getStats().getHitCount());
+        assertEquals(1, cache.getStats().getMissCount());
+    }
+
+    @Test
+    void testNegativeEntryExpiresBeforePositiveEntry() {
+        cache.get("a", this::load);
+        cache.get("unknown", this::load);
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.get("a", this::load);
+        cache.get("unknown", this::load);
+
+        assertEquals(3, loadCount.get());
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+
+        assertEquals(2, cache.getStats().getSize());
+        assertEquals(1, cache.getStats().getEvictionCount());
+
+        cache.get("a", this::load);
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    void testGetAllLoadsOnlyMissesInOneCall() {
+        List<Collection<String>> loaderCalls = new ArrayList<>();
+        cache.get("a", this::load);
+
+        Map<String, Optional<DeveloperDetailDto>> result = cache.getAll(
+                Arrays.asList("unknown", "a"), memberIds -> {
+                    loaderCalls.add(new ArrayList<>(memberIds));
+                    return memberIds.stream()
+                            .map(this::load)
+                            .filter(Optional::isPresent)
+                            .map(Optional::get)
+                            .collect(Collectors.toMap(DeveloperDetailDto::getMemberId, d -> d));
+                });
+        cache.getAll(Arrays.asList("unknown", "a"), memberIds -> {
+            throw new AssertionError("everything should be cached");
+        });
+
+        assertEquals(Arrays.asList("unknown", "a"), new ArrayList<>(result.keySet()));
+        assertFalse(result.get("unknown").isPresent());
+        assertEquals("a", result.get("a").get().getMemberId());
+        assertEquals(Arrays.asList(Arrays.asList("unknown")), loaderCalls);
+        assertEquals(3, cache.getStats().getHitCount());
+        assertEquals(2, cache.getStats().getMissCount());
+    }
+
+    @Test
+    void testLoadRacingWithEvictionIsNotCached() {
+        cache.get("a", memberId -> {
+            cache.evict(memberId);
+            return load(memberId);
+        });
+        cache.get("a", this::load);
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void testEvictingAnotherMemberDoesNotDiscardLoad() {
+        cache.get("a", memberId -> {
+            cache.evict("b");
+            return load(memberId);
+        });
+        cache.get("a", this::load);
+
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Optional<DeveloperDetailDto>> first = CompletableFuture.supplyAsync(
+                () -> cache.get("a", memberId -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load(memberId);
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<DeveloperDetailDto>> second =
+                CompletableFuture.supplyAsync(() -> cache.get("a", this::load));
+        while (cache.getStats().getCoalescedCount() == 0) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertEquals("a", first.get(5, TimeUnit.SECONDS).get().getMemberId());
+        assertSame(first.get(), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loadCount.get());
+        assertEquals(2, cache.getStats().getMissCount());
+    }
+}
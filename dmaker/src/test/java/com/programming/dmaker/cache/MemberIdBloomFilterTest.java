@@ -0,0 +1,42 @@
+package com.programming.dmaker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberIdBloomFilterTest {
+    private static final int INSERTIONS = 10_000;
+
+    private final MemberIdBloomFilter filter = new MemberIdBloomFilter(INSERTIONS, 0.01);
+
+    @Test
+    void testNoFalseNegatives() {
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("member" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("member" + i));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("member" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("unknown" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < INSERTIONS * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyFilterContainsNothing() {
+        assertFalse(filter.mightContain("member"));
+    }
+}
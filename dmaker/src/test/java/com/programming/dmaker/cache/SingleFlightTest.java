@@ -0,0 +1,97 @@
+package com.programming.dmaker.cache;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int THREAD_COUNT = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private String blockingLoad(String value) {
+        loadCount.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (value == null) {
+            throw new DMakerException(DMakerErrorCode.NO_DEVELOPER);
+        }
+        return value;
+    }
+
+    private List<Future<String>> submitConcurrently(String value) throws InterruptedException {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(
+                    () -> singleFlight.execute("a", () -> blockingLoad(value))));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < THREAD_COUNT - 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return futures;
+    }
+
+    @Test
+    void testConcurrentCallsShareOneLoad() throws Exception {
+        List<Future<String>> futures = submitConcurrently("value");
+
+        for (Future<String> future : futures) {
+            assertEquals("value", future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(1, singleFlight.getExecutionCount());
+        assertEquals(THREAD_COUNT - 1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void testFailureIsRethrownToEveryCaller() throws Exception {
+        List<Future<String>> futures = submitConcurrently(null);
+
+        for (Future<String> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> future.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof DMakerException);
+            assertEquals(DMakerErrorCode.NO_DEVELOPER,
+                    ((DMakerException) e.getCause()).getDMakerErrorCode());
+        }
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void testCompletedLoadIsNotReused() {
+        release.countDown();
+        assertThrows(DMakerException.class,
+                () -> singleFlight.execute("a", () -> blockingLoad(null)));
+
+        assertEquals("value", singleFlight.execute("a", () -> blockingLoad("value")));
+        assertEquals(2, loadCount.get());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+}
@@ -0,0 +1,102 @@
+package com.programming.dmaker.controller;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.dto.DeveloperPageDto;
+import com.programming.dmaker.service.DMakerService;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AsyncDMakerController.class, properties = "dmaker.execution.mode=async")
+@Import({SimpleMeterRegistry.class, DMakerProperties.class,
+        AsyncDMakerControllerTest.DirectExecutorConfig.class})
+class AsyncDMakerControllerTest {
+    @TestConfiguration
+    static class DirectExecutorConfig {
+        @Bean
+        public RequestExecutor requestExecutor() {
+            return new RequestExecutor(Runnable::run, Duration.ZERO);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DMakerService dMakerService;
+
+    @Test
+    void getDevelopersPage() throws Exception {
+        given(dMakerService.getDevelopers("Mg", 1))
+                .willReturn(DeveloperPageDto.builder()
+                        .developers(Collections.singletonList(DeveloperDto.builder()
+                                .developerSkillType(DeveloperSkillType.BACK_END)
+                                .developerLevel(DeveloperLevel.SENIOR)
+                                .memberId("member3").build()))
+                        .nextCursor("Mw")
+                        .build());
+
+        MvcResult mvcResult = mockMvc.perform(get("/developers")
+                        .param("cursor", "Mg")
+                        .param("size", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[0].memberId", is("member3")))
+                .andExpect(jsonPath("$.nextCursor", is("Mw")));
+    }
+
+    @Test
+    void deleteDeveloper_replayed_with_same_idempotency_key() throws Exception {
+        given(dMakerService.deleteDeveloper("member4"))
+                .willReturn(DeveloperDetailDto.builder()
+                        .memberId("member4")
+                        .statusCode(StatusCode.RETIRED)
+                        .build());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            MvcResult mvcResult = mockMvc.perform(delete("/developer/member4")
+                            .header("Idempotency-Key", "retry-1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(attempt == 0
+                            ? header().doesNotExist("Idempotent-Replayed")
+                            : header().string("Idempotent-Replayed", "true"))
+                    .andExpect(jsonPath("$.statusCode", is("RETIRED")));
+        }
+
+        verify(dMakerService, times(1)).deleteDeveloper("member4");
+    }
+}
@@ -1,27 +1,43 @@
 package com.programming.dmaker.controller;
 
+import com.programming.dmaker.cache.DeveloperChangeVersion;
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.DeveloperDetailDto;
 import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.dto.DeveloperPageDto;
 import com.programming.dmaker.service.DMakerService;
 import com.programming.dmaker.type.DeveloperLevel;
 import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DMakerController.class)
+@Import({SimpleMeterRegistry.class, DMakerProperties.class})
 class DMakerControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -29,6 +45,9 @@ class DMakerControllerTest {
     @MockBean
     private DMakerService dMakerService;
 
+    private final DeveloperChangeVersion changeVersion =
+            new DeveloperChangeVersion("abc-3", Instant.parse("2021-07-01T00:00:00Z"));
+
     protected MediaType contentType = new MediaType(
             MediaType.APPLICATION_JSON.getType(),
             MediaType.APPLICATION_JSON.getSubtype(),
@@ -47,9 +66,11 @@ class DMakerControllerTest {
                 .memberId("member2").build();
         given(dMakerService.getAllDevelopers())
                 .willReturn(Arrays.asList(developerDto1, developerDto2));
+        given(dMakerService.getDeveloperChangeVersion()).willReturn(changeVersion);
 
         mockMvc.perform(get("/developers").contentType(contentType))
             .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""))
                 .andDo(print())
                 .andExpect(
                         jsonPath("$.[0].developerSkillType",
@@ -65,4 +86,59 @@ class DMakerControllerTest {
                                 is(DeveloperLevel.SENIOR.name()))
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllDevelopers_not_modified() throws Exception {
+        given(dMakerService.getDeveloperChangeVersion()).willReturn(changeVersion);
+
+        mockMvc.perform(get("/developers")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc-3\"")
+                        .contentType(contentType))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(dMakerService, never()).getAllDevelopers();
+    }
+
+    @Test
+    void getDevelopersPage() throws Exception {
+        DeveloperDto developerDto = DeveloperDto.builder()
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .memberId("member3").build();
+        given(dMakerService.getDevelopers("Mg", 1))
+                .willReturn(DeveloperPageDto.builder()
+                        .developers(Arrays.asList(developerDto))
+                        .nextCursor("Mw")
+                        .build());
+
+        mockMvc.perform(get("/developers")
+                        .param("cursor", "Mg")
+                        .param("size", "1")
+                        .contentType(contentType))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[0].memberId", is("member3")))
+                .andExpect(jsonPath("$.nextCursor", is("Mw")));
+    }
+
+    @Test
+    void deleteDeveloper_replayed_with_same_idempotency_key() throws Exception {
+        given(dMakerService.deleteDeveloper("member4"))
+                .willReturn(DeveloperDetailDto.builder()
+                        .memberId("member4")
+                        .statusCode(StatusCode.RETIRED)
+                        .build());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(delete("/developer/member4")
+                            .header("Idempotency-Key", "retry-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(attempt == 0
+                            ? header().doesNotExist("Idempotent-Replayed")
+                            : header().string("Idempotent-Replayed", "true"))
+                    .andExpect(jsonPath("$.statusCode", is("RETIRED")));
+        }
+
+        verify(dMakerService, times(1)).deleteDeveloper("member4");
+    }
+}
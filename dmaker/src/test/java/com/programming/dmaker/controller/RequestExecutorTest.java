@@ -0,0 +1,56 @@
+package com.programming.dmaker.controller;
+
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestExecutorTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RequestExecutor requestExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        requestExecutor.destroy();
+    }
+
+    private String blockingWork() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    @Test
+    void fullQueueIsRejectedWithTooManyRequests() throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        requestExecutor = new RequestExecutor(executor, Duration.ofSeconds(2));
+
+        CompletableFuture<String> running = requestExecutor.submit(this::blockingWork);
+        CompletableFuture<String> queued = requestExecutor.submit(this::blockingWork);
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> requestExecutor.submit(this::blockingWork));
+        assertEquals(DMakerErrorCode.TOO_MANY_REQUESTS, exception.getDMakerErrorCode());
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+
+        release.countDown();
+        assertEquals("done", running.get(5, TimeUnit.SECONDS));
+        assertEquals("done", queued.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,35 @@
+package com.programming.dmaker.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorLogLimiterTest {
+    private final AtomicLong now = new AtomicLong();
+
+    private final ErrorLogLimiter limiter =
+            new ErrorLogLimiter(2, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void testLinesOverTheLimitAreSuppressedAndReportedLater() {
+        assertEquals(0, limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER));
+        assertEquals(0, limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER));
+        assertEquals(ErrorLogLimiter.SUPPRESSED, limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER));
+        assertEquals(ErrorLogLimiter.SUPPRESSED, limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(2, limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER));
+        assertEquals(0, limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER));
+    }
+
+    @Test
+    void testErrorCodesHaveSeparateLimits() {
+        limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER);
+        limiter.tryAcquire(DMakerErrorCode.NO_DEVELOPER);
+
+        assertEquals(0, limiter.tryAcquire(DMakerErrorCode.INVALID_REQUEST));
+    }
+}
@@ -0,0 +1,126 @@
+package com.programming.dmaker.idempotency;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+    private static final String CLIENT = "addr:127.0.0.1";
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger runCount = new AtomicInteger();
+    private final DMakerProperties.Idempotency settings = new DMakerProperties.Idempotency();
+    private IdempotencyStore store;
+
+    private IdempotencyStore store(int maxEntries) {
+        settings.setMaxEntries(maxEntries);
+        settings.setTtl(Duration.ofSeconds(10));
+        return new IdempotencyStore(settings, now::get);
+    }
+
+    private CompletableFuture<String> run(String value) {
+        runCount.incrementAndGet();
+        return CompletableFuture.completedFuture(value);
+    }
+
+    @Test
+    void testCompletedResultIsReplayedUntilTtl() throws Exception {
+        store = store(10);
+
+        IdempotencyStore.Outcome<String> first =
+                store.execute(CLIENT, "k", "create:a", () -> run("first"));
+        IdempotencyStore.Outcome<String> retry =
+                store.execute(CLIENT, "k", "create:a", () -> run("second"));
+
+        assertFalse(first.isReplayed());
+        assertTrue(retry.isReplayed());
+        assertEquals("first", retry.getResult().get());
+        assertEquals(1, runCount.get());
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertEquals("third",
+                store.execute(CLIENT, "k", "create:a", () -> run("third")).getResult().get());
+        assertEquals(2, runCount.get());
+    }
+
+    @Test
+    void testConcurrentDuplicateJoinsRunningCall() throws Exception {
+        store = store(10);
+        CompletableFuture<String> running = new CompletableFuture<>();
+
+        store.execute(CLIENT, "k", "create:a", () -> running);
+        IdempotencyStore.Outcome<String> duplicate =
+                store.execute(CLIENT, "k", "create:a", () -> run("second"));
+        assertFalse(duplicate.getResult().isDone());
+
+        running.complete("first");
+        assertEquals("first", duplicate.getResult().get());
+        assertEquals(0, runCount.get());
+        assertEquals(1, store.getJoinedCount());
+    }
+
+    @Test
+    void testKeyReusedForDifferentRequestIsRejected() {
+        store = store(10);
+        store.execute(CLIENT, "k", "create:a", () -> run("first"));
+
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> store.execute(CLIENT, "k", "create:b", () -> run("second")));
+
+        assertEquals(DMakerErrorCode.IDEMPOTENCY_KEY_REUSED, dMakerException.getDMakerErrorCode());
+        assertEquals(1, runCount.get());
+    }
+
+    @Test
+    void testOnlyFinalFailuresAreStored() {
+        store = store(10);
+        store.execute(CLIENT, "duplicated", "create:a", () -> CompletableFuture.failedFuture(
+                new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID)));
+        store.execute(CLIENT, "busy", "create:b", () -> CompletableFuture.failedFuture(
+                new DMakerException(DMakerErrorCode.TOO_MANY_REQUESTS)));
+
+        ExecutionException replayed = assertThrows(ExecutionException.class, () -> store
+                .execute(CLIENT, "duplicated", "create:a", () -> run("second")).getResult().get());
+        IdempotencyStore.Outcome<String> retried =
+                store.execute(CLIENT, "busy", "create:b", () -> run("second"));
+
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID,
+                ((DMakerException) replayed.getCause()).getDMakerErrorCode());
+        assertFalse(retried.isReplayed());
+        assertEquals(1, runCount.get());
+    }
+
+    @Test
+    void testOldestCompletedEntriesAreDroppedFirst() {
+        store = store(2);
+        store.execute(CLIENT, "running", "create:a", CompletableFuture::new);
+        store.execute(CLIENT, "k1", "create:b", () -> run("b"));
+        store.execute(CLIENT, "k2", "create:c", () -> run("c"));
+
+        assertEquals(2, store.size());
+        assertTrue(store.execute(CLIENT, "running", "create:a", () -> run("a")).isReplayed());
+        assertFalse(store.execute(CLIENT, "k1", "create:b", () -> run("b")).isReplayed());
+    }
+
+    @Test
+    void testKeysAreScopedByClient() throws Exception {
+        store = store(10);
+        store.execute(CLIENT, "k", "create:a", () -> run("first"));
+
+        IdempotencyStore.Outcome<String> other =
+                store.execute("addr:127.0.0.2", "k", "create:b", () -> run("second"));
+
+        assertFalse(other.isReplayed());
+        assertEquals("second", other.getResult().get());
+        assertEquals(2, runCount.get());
+    }
+}
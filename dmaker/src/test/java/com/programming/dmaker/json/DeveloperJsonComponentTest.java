@@ -0,0 +1,48 @@
+package com.programming.dmaker.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@JsonTest
+class DeveloperJsonComponentTest {
+    private final ObjectMapper beanObjectMapper = new ObjectMapper();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testDeveloperDtoMatchesBeanSerialization() throws Exception {
+        DeveloperDto developerDto = DeveloperDto.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .memberId("a\"b")
+                .build();
+
+        assertEquals(beanObjectMapper.writeValueAsString(developerDto),
+                objectMapper.writeValueAsString(developerDto));
+    }
+
+    @Test
+    void testDeveloperDetailDtoMatchesBeanSerialization() throws Exception {
+        DeveloperDetailDto developerDetailDto = DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .experienceYears(3)
+                .memberId("a")
+                .statusCode(StatusCode.EMPLOYED)
+                .name("jimmy")
+                .version(2L)
+                .build();
+
+        assertEquals(beanObjectMapper.writeValueAsString(developerDetailDto),
+                objectMapper.writeValueAsString(developerDetailDto));
+    }
+}
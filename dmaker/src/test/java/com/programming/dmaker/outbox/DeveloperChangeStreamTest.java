@@ -0,0 +1,144 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperChangeStreamTest {
+    @Mock
+    private DeveloperOutboxEventRepository developerOutboxEventRepository;
+
+    private final DMakerProperties properties = new DMakerProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final RecordingEmitter slow = new RecordingEmitter(release);
+    private final RecordingEmitter fast = new RecordingEmitter(null);
+    private DeveloperChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        properties.getOutbox().setSseMaxBacklog(2);
+        properties.getOutbox().setSseSendThreads(2);
+        given(developerOutboxEventRepository
+                .findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(anyLong(), any()))
+                .willReturn(Collections.emptyList());
+        List<SseEmitter> emitters = new CopyOnWriteArrayList<>(new SseEmitter[]{slow, fast});
+        stream = new DeveloperChangeStream(developerOutboxEventRepository, properties) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return emitters.remove(0);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        stream.destroy();
+    }
+
+    private static List<DeveloperChangeMessage> message(long sequence) {
+        return Collections.singletonList(DeveloperChangeMessage.builder()
+                .sequence(sequence)
+                .changeType(DeveloperChangeType.EDITED)
+                .memberId("a")
+                .build());
+    }
+
+    private static DeveloperOutboxEvent event(long sequence) {
+        return DeveloperOutboxEvent.builder()
+                .publishedSequence(sequence)
+                .changeType(DeveloperChangeType.EDITED)
+                .memberId("a")
+                .changes("{}")
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    void gapInLiveChangesIsFilledFromTheOutbox() throws Exception {
+        given(developerOutboxEventRepository
+                .findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(eq(1L), any()))
+                .willReturn(Collections.emptyList(), Arrays.asList(event(2L), event(3L)));
+        release.countDown();
+        stream.subscribe(1);
+
+        stream.publish(message(3));
+
+        await(() -> slow.sent.size() == 2);
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutHoldingUpOthers() throws Exception {
+        stream.subscribe(0);
+        stream.subscribe(0);
+
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            stream.publish(message(sequence));
+            int expected = (int) sequence;
+            await(() -> fast.sent.size() == expected);
+        }
+
+        await(() -> stream.getSubscriberCount() == 1);
+        release.countDown();
+        await(() -> slow.completed);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch block;
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block != null) {
+                try {
+                    block.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
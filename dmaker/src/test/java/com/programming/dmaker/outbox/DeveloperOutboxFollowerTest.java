@@ -0,0 +1,100 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.cache.DeveloperChangeTracker;
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.DeveloperChangeMessage;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperOutboxFollowerTest {
+    @Mock
+    private DeveloperOutboxEventRepository developerOutboxEventRepository;
+
+    @Mock
+    private DeveloperChangePublisher failingPublisher;
+
+    @Mock
+    private DeveloperChangePublisher publisher;
+
+    private final DeveloperChangeTracker developerChangeTracker = new DeveloperChangeTracker();
+
+    private DeveloperOutboxFollower developerOutboxFollower;
+
+    @BeforeEach
+    void setUp() {
+        developerOutboxFollower = new DeveloperOutboxFollower(
+                developerOutboxEventRepository,
+                Arrays.asList(failingPublisher, publisher),
+                developerChangeTracker,
+                new DMakerProperties());
+    }
+
+    private static DeveloperOutboxEvent event(long sequence, String memberId) {
+        return DeveloperOutboxEvent.builder()
+                .publishedSequence(sequence)
+                .changeType(DeveloperChangeType.CREATED)
+                .memberId(memberId)
+                .changes("{}")
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFollowsFromTheSequenceAtStartup() {
+        given(developerOutboxEventRepository.findFirstByPublishedSequenceIsNotNullOrderByPublishedSequenceDesc())
+                .willReturn(Optional.of(event(10L, "z")));
+        given(developerOutboxEventRepository.findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(
+                eq(10L), any(PageRequest.class)))
+                .willReturn(Arrays.asList(event(11L, "a"), event(12L, "b")));
+        willThrow(new IllegalStateException("down")).given(failingPublisher).publish(any());
+
+        developerOutboxFollower.follow();
+        verify(publisher, never()).publish(any());
+        developerOutboxFollower.follow();
+
+        ArgumentCaptor<List<DeveloperChangeMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publish(captor.capture());
+        assertEquals(Arrays.asList(11L, 12L), Arrays.asList(
+                captor.getValue().get(0).getSequence(), captor.getValue().get(1).getSequence()));
+        assertEquals(12L, developerOutboxFollower.getPosition());
+        assertEquals("12", developerChangeTracker.current().getTag());
+    }
+
+    @Test
+    void testNothingToFollow() {
+        given(developerOutboxEventRepository.findFirstByPublishedSequenceIsNotNullOrderByPublishedSequenceDesc())
+                .willReturn(Optional.of(event(10L, "z")));
+        given(developerOutboxEventRepository.findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(
+                eq(10L), any(PageRequest.class)))
+                .willReturn(Collections.emptyList());
+
+        developerOutboxFollower.follow();
+        developerOutboxFollower.follow();
+
+        verify(publisher, never()).publish(any());
+        assertEquals(10L, developerOutboxFollower.getPosition());
+        assertEquals("10", developerChangeTracker.current().getTag());
+    }
+}
@@ -0,0 +1,72 @@
+package com.programming.dmaker.outbox;
+
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperOutboxRelayTest {
+    @Mock
+    private DeveloperOutboxEventRepository developerOutboxEventRepository;
+
+    private DeveloperOutboxRelay developerOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        developerOutboxRelay = new DeveloperOutboxRelay(
+                developerOutboxEventRepository,
+                new DMakerProperties(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    private static DeveloperOutboxEvent event(long id, String memberId) {
+        return DeveloperOutboxEvent.builder()
+                .id(id)
+                .changeType(DeveloperChangeType.CREATED)
+                .memberId(memberId)
+                .changes("{}")
+                .build();
+    }
+
+    @Test
+    void testSequencesContinueFromLastPublished() {
+        DeveloperOutboxEvent first = event(7L, "a");
+        DeveloperOutboxEvent second = event(3L, "b");
+        given(developerOutboxEventRepository.findByPublishedSequenceIsNullOrderByIdAsc(any()))
+                .willReturn(Arrays.asList(first, second));
+        given(developerOutboxEventRepository.findMaxPublishedSequence()).willReturn(10L);
+
+        developerOutboxRelay.relay();
+
+        assertEquals(11L, first.getPublishedSequence());
+        assertEquals(12L, second.getPublishedSequence());
+    }
+
+    @Test
+    void testNothingToRelay() {
+        given(developerOutboxEventRepository.findByPublishedSequenceIsNullOrderByIdAsc(any()))
+                .willReturn(Collections.emptyList());
+
+        developerOutboxRelay.relay();
+
+        verify(developerOutboxEventRepository, never()).findMaxPublishedSequence();
+    }
+}
@@ -0,0 +1,65 @@
+package com.programming.dmaker.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.programming.dmaker.event.DeveloperChangeType;
+import com.programming.dmaker.event.DeveloperChangedEvent;
+import com.programming.dmaker.event.DeveloperSnapshot;
+import com.programming.dmaker.repository.DeveloperOutboxEventRepository;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperOutboxWriterTest {
+    @Mock
+    private DeveloperOutboxEventRepository developerOutboxEventRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private DeveloperOutboxWriter developerOutboxWriter;
+
+    private final DeveloperSnapshot employed = new DeveloperSnapshot(
+            DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, StatusCode.EMPLOYED, 5);
+
+    @Test
+    void testCreatedEventCarriesAllFields() {
+        developerOutboxWriter.onDeveloperChanged(
+                new DeveloperChangedEvent(DeveloperChangeType.CREATED, "a", null, employed));
+
+        ArgumentCaptor<DeveloperOutboxEvent> captor = ArgumentCaptor.forClass(DeveloperOutboxEvent.class);
+        verify(developerOutboxEventRepository).save(captor.capture());
+        assertEquals(DeveloperChangeType.CREATED, captor.getValue().getChangeType());
+        assertEquals("a", captor.getValue().getMemberId());
+        assertEquals("{\"developerLevel\":\"JUNIOR\",\"developerSkillType\":\"BACK_END\"," +
+                "\"experienceYears\":5,\"statusCode\":\"EMPLOYED\"}", captor.getValue().getChanges());
+        assertNull(captor.getValue().getPublishedSequence());
+    }
+
+    @Test
+    void testEditedEventCarriesOnlyChangedFields() {
+        DeveloperSnapshot edited = new DeveloperSnapshot(
+                DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END, StatusCode.EMPLOYED, 7);
+
+        developerOutboxWriter.onDeveloperChanged(
+                new DeveloperChangedEvent(DeveloperChangeType.EDITED, "a", employed, edited));
+
+        ArgumentCaptor<DeveloperOutboxEvent> captor = ArgumentCaptor.forClass(DeveloperOutboxEvent.class);
+        verify(developerOutboxEventRepository).save(captor.capture());
+        assertEquals("{\"developerSkillType\":\"FRONT_END\",\"experienceYears\":7}",
+                captor.getValue().getChanges());
+    }
+}
@@ -0,0 +1,89 @@
+package com.programming.dmaker.readmodel;
+
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.dto.EditDeveloper;
+import com.programming.dmaker.outbox.DeveloperOutboxFollower;
+import com.programming.dmaker.outbox.DeveloperOutboxRelay;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.service.DMakerService;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "dmaker.read-model.enabled=true")
+class DeveloperReadModelUpdaterTest {
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperReadModel developerReadModel;
+
+    @Autowired
+    private DeveloperReadModelUpdater developerReadModelUpdater;
+
+    @Autowired
+    private DeveloperOutboxRelay developerOutboxRelay;
+
+    @Autowired
+    private DeveloperOutboxFollower developerOutboxFollower;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testFollowsWritesAndRepairsDrift() {
+        DeveloperRoster warmedUp = developerReadModel.current();
+        assertNotNull(warmedUp);
+        developerOutboxFollower.follow();
+
+        dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(5)
+                .memberId("read-model")
+                .name("jimmy")
+                .age(28)
+                .build());
+        dMakerService.editDeveloper("read-model", EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.FRONT_END)
+                .experienceYears(12)
+                .build());
+        followOutbox();
+
+        List<DeveloperDto> developers = dMakerService.getAllDevelopers();
+        assertTrue(developers instanceof SerializedDeveloperList);
+        assertEquals(DeveloperLevel.SENIOR, developerReadModel.current().get("read-model")
+                .getDeveloperLevel());
+        assertFalse(developerReadModelUpdater.verify());
+
+        // a write that bypasses DMakerService is only caught by the check
+        transactionTemplate.executeWithoutResult(status -> developerRepository
+                .findByMemberId("read-model").get()
+                .setDeveloperSkillType(DeveloperSkillType.BACK_END));
+        assertTrue(developerReadModelUpdater.verify());
+        assertEquals(DeveloperSkillType.BACK_END, developerReadModel.current().get("read-model")
+                .getDeveloperSkillType());
+
+        dMakerService.deleteDeveloper("read-model");
+        followOutbox();
+        assertNull(developerReadModel.current().get("read-model"));
+        assertFalse(developerReadModelUpdater.verify());
+    }
+
+    private void followOutbox() {
+        developerOutboxRelay.relay();
+        developerOutboxFollower.follow();
+    }
+}
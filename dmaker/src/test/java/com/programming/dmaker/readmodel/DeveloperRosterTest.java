@@ -0,0 +1,85 @@
+package com.programming.dmaker.readmodel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperRosterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DeveloperRoster roster = DeveloperRoster.of(Arrays.asList(
+            developer("a", DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END),
+            developer("b", DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END),
+            developer("c", DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END)
+    ), objectMapper);
+
+    private static DeveloperDto developer(
+            String memberId, DeveloperLevel level, DeveloperSkillType skillType
+    ) {
+        return new DeveloperDto(level, skillType, memberId);
+    }
+
+    @Test
+    void testIndexes() {
+        assertEquals(3, roster.getDevelopers().size());
+        assertEquals(DeveloperLevel.SENIOR, roster.get("b").getDeveloperLevel());
+        assertNull(roster.get("unknown"));
+        assertEquals(Arrays.asList("a", "c"), Arrays.asList(
+                roster.getByLevel(DeveloperLevel.JUNIOR).get(0).getMemberId(),
+                roster.getByLevel(DeveloperLevel.JUNIOR).get(1).getMemberId()));
+        assertEquals(2, roster.getBySkillType(DeveloperSkillType.BACK_END).size());
+        assertTrue(roster.getByLevel(DeveloperLevel.NEW).isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> roster.getDevelopers().remove(0));
+    }
+
+    @Test
+    void testBatchBuildsNewRosterInPlaceOfEntries() {
+        DeveloperRoster applied = roster.apply(
+                Arrays.asList(
+                        developer("a", DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END),
+                        developer("d", DeveloperLevel.NEW, DeveloperSkillType.FRONT_END)),
+                Arrays.asList("a", "b", "d"));
+
+        assertEquals(Arrays.asList("a", "c", "d"), Arrays.asList(
+                applied.getDevelopers().get(0).getMemberId(),
+                applied.getDevelopers().get(1).getMemberId(),
+                applied.getDevelopers().get(2).getMemberId()));
+        assertEquals(1, applied.getByLevel(DeveloperLevel.SENIOR).size());
+        assertEquals(DeveloperLevel.JUNIOR, roster.get("a").getDeveloperLevel());
+        assertSame(applied, applied.apply(Collections.emptyList(), Arrays.asList("b", "unknown")));
+    }
+
+    @Test
+    void testJsonIsSerializedOncePerRoster() throws Exception {
+        byte[] json = roster.getDevelopers().getJson();
+
+        assertSame(json, roster.getDevelopers().getJson());
+        assertEquals(objectMapper.writeValueAsString(Arrays.asList(roster.getDevelopers().toArray())),
+                new String(json, StandardCharsets.UTF_8));
+        assertNotSame(json, roster.apply(Collections.emptyList(), Collections.singletonList("a"))
+                .getDevelopers().getJson());
+    }
+
+    @Test
+    void testDifferences() {
+        DeveloperRoster other = roster.apply(
+                Arrays.asList(
+                        developer("b", DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END),
+                        developer("d", DeveloperLevel.NEW, DeveloperSkillType.FRONT_END)),
+                Arrays.asList("a", "b", "d"));
+
+        assertEquals(Collections.emptySet(), roster.differences(DeveloperRoster.of(
+                roster.getDevelopers(), objectMapper)));
+        assertEquals(new java.util.TreeSet<>(Arrays.asList("a", "b", "d")),
+                roster.differences(other));
+    }
+}
@@ -0,0 +1,46 @@
+package com.programming.dmaker.replication;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+    private final DataSource primary = new SimpleDriverDataSource();
+    private final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+            primary, Arrays.asList(new SimpleDriverDataSource(), new SimpleDriverDataSource()),
+            ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testWritesAndNonTransactionalWorkUsePrimary() {
+        assertEquals("primary", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadOnlyTransactionsRoundRobinOverReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testOnPrimaryOverridesReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary",
+                DataSourceRouting.onPrimary(routingDataSource::determineCurrentLookupKey));
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+}
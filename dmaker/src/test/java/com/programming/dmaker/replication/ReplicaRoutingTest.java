@@ -0,0 +1,95 @@
+package com.programming.dmaker.replication;
+
+import com.programming.dmaker.cache.DeveloperMemberIdFilter;
+import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperDto;
+import com.programming.dmaker.dto.EditDeveloper;
+import com.programming.dmaker.service.DMakerService;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// two in-memory H2 databases stand in for primary and replica; nothing
+// replicates between them, so every read shows which one answered
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "dmaker.replication.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "dmaker.replication.replicas[0].username=sa",
+        "dmaker.replication.read-your-writes-window=1m"
+})
+class ReplicaRoutingTest {
+    private static final String INSERT_DEVELOPER = "insert into developer (id, developer_level, " +
+            "developer_skill_type, experience_years, member_id, name, age, status_code, version, " +
+            "created_at, updated_at) values (?, 'JUNIOR', ?, 5, ?, ?, 28, 'EMPLOYED', 0, " +
+            "current_timestamp, current_timestamp)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperMemberIdFilter developerMemberIdFilter;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        // outside a transaction the routing data source always answers with the primary
+        primary = new JdbcTemplate(dataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", ""));
+        replica.execute("drop all objects");
+        primary.queryForList("script nodata", String.class).forEach(replica::execute);
+    }
+
+    @Test
+    void testPrimaryPoolIsBoundToHikariProperties() {
+        assertEquals("primary", primaryDataSource.getPoolName());
+        assertEquals(7, primaryDataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void testReadsGoToReplicaUntilDeveloperIsWritten() {
+        primary.update(INSERT_DEVELOPER, 1_000_000L, "BACK_END", "routed", "on-primary");
+        replica.update(INSERT_DEVELOPER, 1_000_000L, "FRONT_END", "routed", "on-replica");
+        developerMemberIdFilter.rebuild();
+
+        DeveloperDetailDto beforeEdit = dMakerService.getDeveloperDetail("routed");
+        List<DeveloperDto> listBeforeEdit = dMakerService.getAllDevelopers();
+
+        assertEquals("on-replica", beforeEdit.getName());
+        assertEquals(1, listBeforeEdit.size());
+        assertEquals(DeveloperSkillType.FRONT_END, listBeforeEdit.get(0).getDeveloperSkillType());
+
+        dMakerService.editDeveloper("routed", EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(6)
+                .build());
+
+        DeveloperDetailDto afterEdit = dMakerService.getDeveloperDetail("routed");
+        List<DeveloperDto> listAfterEdit = dMakerService.getAllDevelopers();
+
+        assertEquals("on-primary", afterEdit.getName());
+        assertEquals(6, afterEdit.getExperienceYears());
+        assertEquals(DeveloperSkillType.BACK_END, listAfterEdit.get(0).getDeveloperSkillType());
+    }
+}
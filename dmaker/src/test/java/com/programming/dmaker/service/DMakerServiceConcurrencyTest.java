@@ -0,0 +1,74 @@
+package com.programming.dmaker.service;
+
+import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.exception.DMakerErrorCode;
+import com.programming.dmaker.exception.DMakerException;
+import com.programming.dmaker.repository.DeveloperRepository;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// every thread must reach the service at once, so admission control is opened up
+@SpringBootTest(properties = "dmaker.admission.max-concurrent-writes=16")
+class DMakerServiceConcurrencyTest {
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Test
+    public void testCreateDeveloper_no_duplicates_under_parallel_load() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger createdCount = new AtomicInteger();
+        AtomicInteger duplicatedCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                            .developerLevel(DeveloperLevel.JUNIOR)
+                            .developerSkillType(DeveloperSkillType.BACK_END)
+                            .experienceYears(3)
+                            .memberId("concurrent")
+                            .name("jimmy")
+                            .age(28)
+                            .build());
+                    createdCount.incrementAndGet();
+                } catch (DMakerException e) {
+                    assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, e.getDMakerErrorCode());
+                    duplicatedCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, createdCount.get());
+        assertEquals(THREAD_COUNT - 1, duplicatedCount.get());
+        assertEquals(1, developerRepository.findAll().stream()
+                .filter(developer -> "concurrent".equals(developer.getMemberId()))
+                .count());
+    }
+}
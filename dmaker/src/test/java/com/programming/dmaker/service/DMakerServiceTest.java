@@ -1,32 +1,69 @@
 package com.programming.dmaker.service;
 
+import com.programming.dmaker.cache.DeveloperDetailCache;
+import com.programming.dmaker.cache.DeveloperMemberIdFilter;
+import com.programming.dmaker.cache.LocalDeveloperDetailCache;
+import com.programming.dmaker.config.DMakerProperties;
+import com.programming.dmaker.dto.BulkCreateDeveloper;
 import com.programming.dmaker.dto.CreateDeveloper;
+import com.programming.dmaker.dto.DeveloperCursor;
 import com.programming.dmaker.dto.DeveloperDetailDto;
+import com.programming.dmaker.dto.DeveloperMemberStatus;
+import com.programming.dmaker.dto.DeveloperPageDto;
+import com.programming.dmaker.dto.DeveloperSearchCondition;
+import com.programming.dmaker.dto.DeveloperSummary;
 import com.programming.dmaker.dto.EditDeveloper;
+import com.programming.dmaker.dto.GetDeveloperDetails;
+import com.programming.dmaker.dto.RetireDevelopers;
 import com.programming.dmaker.entity.Developer;
 import com.programming.dmaker.exception.DMakerErrorCode;
 import com.programming.dmaker.exception.DMakerException;
+import com.programming.dmaker.readmodel.DeveloperReadModel;
+import com.programming.dmaker.replication.RecentWrites;
+import com.programming.dmaker.repository.ArchivedDeveloperRepository;
 import com.programming.dmaker.repository.DeveloperRepository;
 import com.programming.dmaker.repository.RetiredDeveloperRepository;
 import com.programming.dmaker.type.DeveloperLevel;
 import com.programming.dmaker.type.DeveloperSkillType;
 import com.programming.dmaker.type.StatusCode;
 import com.programming.dmaker.constant.DMakerConstant;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import javax.validation.Validator;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class DMakerServiceTest {
@@ -36,9 +73,46 @@ class DMakerServiceTest {
     @Mock
     private RetiredDeveloperRepository retiredDeveloperRepository;
 
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Spy
+    private DeveloperDetailCache developerDetailCache = new LocalDeveloperDetailCache(
+            100, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private DMakerProperties properties = new DMakerProperties();
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate =
+            new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private DeveloperMemberIdFilter developerMemberIdFilter;
+
+    @Mock
+    private RecentWrites recentWrites;
+
+    @Mock
+    private DeveloperReadModel developerReadModel;
+
     @InjectMocks
     private DMakerService dMakerService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(developerMemberIdFilter.mightContain(anyString())).thenReturn(true);
+    }
+
     private final Developer defaultDeveloper = Developer.builder()
             .developerLevel(DeveloperLevel.JUNIOR)
             .developerSkillType(DeveloperSkillType.FRONT_END)
@@ -72,8 +146,8 @@ class DMakerServiceTest {
 
     @Test
     public void testGetDeveloper() {
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
+        given(developerRepository.findDeveloperDetailByMemberId(anyString()))
+                .willReturn(Optional.of(DeveloperDetailDto.fromEntity(defaultDeveloper)));
 
         DeveloperDetailDto developerDetailDto = dMakerService.getDeveloperDetail("gg");
 
@@ -82,11 +156,190 @@ class DMakerServiceTest {
         assertEquals(7, developerDetailDto.getExperienceYears());
     }
 
+    @Test
+    public void testGetDeveloper_falls_back_to_archive() {
+        given(developerRepository.findDeveloperDetailByMemberId("a"))
+                .willReturn(Optional.empty());
+        given(archivedDeveloperRepository.findDeveloperDetailByMemberId("a"))
+                .willReturn(Optional.of(DeveloperDetailDto.builder()
+                        .memberId("a")
+                        .statusCode(StatusCode.RETIRED)
+                        .build()));
+
+        DeveloperDetailDto developerDetailDto = dMakerService.getDeveloperDetail("a");
+
+        assertEquals(StatusCode.RETIRED, developerDetailDto.getStatusCode());
+    }
+
+    @Test
+    public void testGetDeveloper_served_from_cache() {
+        given(developerRepository.findDeveloperDetailByMemberId(anyString()))
+                .willReturn(Optional.of(DeveloperDetailDto.fromEntity(defaultDeveloper)));
+
+        dMakerService.getDeveloperDetail("a");
+        DeveloperDetailDto developerDetailDto = dMakerService.getDeveloperDetail("a");
+
+        assertEquals("a", developerDetailDto.getMemberId());
+        verify(developerRepository, times(1)).findDeveloperDetailByMemberId("a");
+        assertEquals(1, developerDetailCache.getStats().getHitCount());
+    }
+
+    @Test
+    public void testGetDeveloper_rejected_by_member_id_filter() {
+        given(developerMemberIdFilter.mightContain("unknown")).willReturn(false);
+
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getDeveloperDetail("unknown"));
+
+        assertEquals(DMakerErrorCode.NO_DEVELOPER, dMakerException.getDMakerErrorCode());
+        assertEquals(0, dMakerException.getStackTrace().length);
+        verifyNoInteractions(developerRepository, archivedDeveloperRepository);
+        assertEquals(0, developerDetailCache.getStats().getMissCount());
+    }
+
+    @Test
+    public void testGetDeveloperDetails_combines_cache_hits_and_one_query() {
+        given(developerMemberIdFilter.mightContain("unknown")).willReturn(false);
+        given(developerRepository.findDeveloperDetailByMemberId("a"))
+                .willReturn(Optional.of(DeveloperDetailDto.fromEntity(defaultDeveloper)));
+        given(developerRepository.findDeveloperDetailsByMemberIdIn(Arrays.asList("c", "b")))
+                .willReturn(Collections.singletonList(
+                        DeveloperDetailDto.builder().memberId("b").build()));
+        given(archivedDeveloperRepository.findDeveloperDetailsByMemberIdIn(Arrays.asList("c")))
+                .willReturn(Collections.singletonList(DeveloperDetailDto.builder()
+                        .memberId("c")
+                        .statusCode(StatusCode.RETIRED)
+                        .build()));
+        dMakerService.getDeveloperDetail("a");
+
+        GetDeveloperDetails.Response response = dMakerService.getDeveloperDetails(
+                Arrays.asList("c", "unknown", "a", "b", "a"));
+
+        assertEquals(Arrays.asList("c", "a", "b"),
+                Arrays.asList(response.getDevelopers().keySet().toArray()));
+        assertEquals(StatusCode.RETIRED, response.getDevelopers().get("c").getStatusCode());
+        assertEquals(Arrays.asList("unknown"), response.getNotFoundMemberIds());
+        verify(developerRepository, times(1)).findDeveloperDetailByMemberId("a");
+        verify(developerRepository, times(1)).findDeveloperDetailsByMemberIdIn(any());
+    }
+
+    @Test
+    public void testGetDeveloperDetails_failed_with_too_many_member_ids() {
+        properties.getMultiGet().setMaxMemberIds(2);
+
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getDeveloperDetails(Arrays.asList("a", "b", "c")));
+
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+        verifyNoInteractions(developerRepository);
+    }
+
+    private DeveloperSummary getSummary(Long id, String memberId) {
+        return new DeveloperSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public DeveloperLevel getDeveloperLevel() {
+                return DeveloperLevel.JUNIOR;
+            }
+
+            @Override
+            public DeveloperSkillType getDeveloperSkillType() {
+                return DeveloperSkillType.BACK_END;
+            }
+
+            @Override
+            public String getMemberId() {
+                return memberId;
+            }
+        };
+    }
+
+    @Test
+    public void testGetDevelopers_with_next_cursor() {
+        // given
+        given(developerRepository.findDevelopersByStatusCodeEqualsAndIdGreaterThanOrderByIdAsc(
+                eq(StatusCode.EMPLOYED), eq(0L), any()))
+                .willReturn(Arrays.asList(
+                        getSummary(1L, "a"), getSummary(2L, "b"), getSummary(3L, "c")
+                ));
+
+        // when
+        DeveloperPageDto page = dMakerService.getDevelopers(null, 2);
+
+        // then
+        assertEquals(2, page.getDevelopers().size());
+        assertEquals("b", page.getDevelopers().get(1).getMemberId());
+        assertEquals(2L, DeveloperCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    public void testGetDevelopers_failed_with_invalid_size() {
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getDevelopers(null, 0));
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+    }
+
+    @Test
+    public void testSearchDevelopers_without_count() {
+        // given
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .minExperienceYears(12)
+                .maxExperienceYears(20)
+                .build();
+        given(developerRepository.searchDevelopers(condition, 0L, 3))
+                .willReturn(Arrays.asList(getSummary(1L, "a"), getSummary(2L, "b")));
+
+        // when
+        DeveloperPageDto page = dMakerService.searchDevelopers(condition, null, 2, false);
+
+        // then
+        assertEquals(2, page.getDevelopers().size());
+        assertNull(page.getNextCursor());
+        assertNull(page.getTotalCount());
+        verify(developerRepository, times(0)).countDevelopers(any());
+    }
+
+    @Test
+    public void testSearchDevelopers_with_count() {
+        // given
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .namePrefix("jim")
+                .build();
+        given(developerRepository.searchDevelopers(condition, 1L, 2))
+                .willReturn(Arrays.asList(getSummary(2L, "b"), getSummary(3L, "c")));
+        given(developerRepository.countDevelopers(condition)).willReturn(3L);
+
+        // when
+        DeveloperPageDto page = dMakerService.searchDevelopers(
+                condition, DeveloperCursor.encode(1L), 1, true);
+
+        // then
+        assertEquals(1, page.getDevelopers().size());
+        assertEquals(2L, DeveloperCursor.decode(page.getNextCursor()));
+        assertEquals(3L, page.getTotalCount());
+    }
+
+    @Test
+    public void testSearchDevelopers_failed_with_invalid_experience_range() {
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .minExperienceYears(20)
+                .maxExperienceYears(12)
+                .build();
+
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.searchDevelopers(condition, null, 10, false));
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+    }
+
     @Test
     public void testCreateDeveloper_success() {
         // given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.empty());
         ArgumentCaptor<Developer> captor =
                 ArgumentCaptor.forClass(Developer.class);
 
@@ -97,7 +350,7 @@ class DMakerServiceTest {
 
         // then
         verify(developerRepository, times(1))
-                .save(captor.capture());
+                .saveAndFlush(captor.capture());
         Developer savedDeveloper = captor.getValue();
         Assertions.assertEquals(DeveloperLevel.JUNIOR, savedDeveloper.getDeveloperLevel());
         assertEquals(DeveloperSkillType.FRONT_END, savedDeveloper.getDeveloperSkillType());
@@ -107,10 +360,10 @@ class DMakerServiceTest {
     @Test
     public void testCreateDeveloper_failed_with_duplicated() {
         // given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
-//        given(developerRepository.save(any()))
-//                .willReturn(defaultDeveloper);
+        given(developerRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("duplicated",
+                        new ConstraintViolationException("duplicated", new SQLException(),
+                                "PUBLIC.UK_DEVELOPER_MEMBER_ID_INDEX_8 ON PUBLIC.DEVELOPER(MEMBER_ID)")));
 
         // when
         // then
@@ -122,6 +375,29 @@ class DMakerServiceTest {
         Assertions.assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, dMakerException.getDMakerErrorCode());
     }
 
+    @Test
+    public void testCreateDeveloper_failed_with_archived_member_id() {
+        given(archivedDeveloperRepository.existsByMemberId("a")).willReturn(true);
+
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.createDeveloper(getCreateRequest(
+                        DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END, 5)));
+
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, dMakerException.getDMakerErrorCode());
+        verify(eventPublisher, times(0)).publishEvent(any());
+    }
+
+    @Test
+    public void testCreateDeveloper_new_member_id_skips_archive_lookup() {
+        given(developerMemberIdFilter.mightContain("a")).willReturn(false);
+
+        dMakerService.createDeveloper(getCreateRequest(
+                DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END, 5));
+
+        verify(developerRepository, times(1)).saveAndFlush(any());
+        verifyNoInteractions(archivedDeveloperRepository);
+    }
+
     @Test
     public void testCreateDeveloper_failed_with_unmatched_level() {
         // given
@@ -168,6 +444,37 @@ class DMakerServiceTest {
                 , dMakerException4.getDMakerErrorCode());
     }
 
+    @Test
+    public void testCreateDevelopers_reports_result_per_row() {
+        // given
+        given(developerRepository.findMemberIdsByMemberIdIn(any()))
+                .willReturn(Arrays.asList("existing"));
+        CreateDeveloper.Request existing = getCreateRequest(
+                DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END, 7);
+        existing.setMemberId("existing");
+        CreateDeveloper.Request unmatchedLevel = getCreateRequest(
+                DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END, 3);
+        unmatchedLevel.setMemberId("b");
+
+        // when
+        BulkCreateDeveloper.Response response = dMakerService.createDevelopers(Arrays.asList(
+                getCreateRequest(DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END, 7),
+                getCreateRequest(DeveloperLevel.JUNIOR, DeveloperSkillType.FRONT_END, 7),
+                existing,
+                unmatchedLevel
+        ));
+
+        // then
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(3, response.getFailedCount());
+        assertTrue(response.getResults().get(0).getCreated());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(1).getErrorCode());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(2).getErrorCode());
+        assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
+                response.getResults().get(3).getErrorCode());
+        verify(developerRepository, times(1)).saveAll(any());
+    }
+
     @Test
     public void testEditDeveloper() {
         // given
@@ -185,6 +492,58 @@ class DMakerServiceTest {
         assertEquals(5, developerDetailDto.getExperienceYears());
     }
 
+    @Test
+    public void testEditDeveloper_retried_after_optimistic_lock_failure() {
+        // given
+        given(developerRepository.findByMemberId(anyString()))
+                .willReturn(Optional.of(defaultDeveloper));
+        willThrow(new ObjectOptimisticLockingFailureException(Developer.class, 1L))
+                .willDoNothing()
+                .given(developerRepository).flush();
+
+        // when
+        DeveloperDetailDto developerDetailDto = dMakerService.editDeveloper(
+                "a", defaultEditRequest
+        );
+
+        // then
+        assertEquals(5, developerDetailDto.getExperienceYears());
+        verify(developerRepository, times(2)).flush();
+    }
+
+    @Test
+    public void testEditDeveloper_failed_with_conflict_after_max_attempts() {
+        // given
+        given(developerRepository.findByMemberId(anyString()))
+                .willReturn(Optional.of(defaultDeveloper));
+        willThrow(new ObjectOptimisticLockingFailureException(Developer.class, 1L))
+                .given(developerRepository).flush();
+
+        // when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper("a", defaultEditRequest));
+
+        // then
+        assertEquals(DMakerErrorCode.DEVELOPER_UPDATE_CONFLICT, dMakerException.getDMakerErrorCode());
+        verify(developerRepository, times(properties.getEdit().getMaxAttempts())).flush();
+    }
+
+    @Test
+    public void testEditDeveloper_failed_with_stale_version() {
+        // given
+        defaultDeveloper.setVersion(2L);
+        given(developerRepository.findByMemberId(anyString()))
+                .willReturn(Optional.of(defaultDeveloper));
+
+        // when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper("a", defaultEditRequest, 1L));
+
+        // then
+        assertEquals(DMakerErrorCode.DEVELOPER_VERSION_NOT_MATCHED, dMakerException.getDMakerErrorCode());
+        verify(developerRepository, times(0)).flush();
+    }
+
     @Test
     public void testDeleteDeveloper() {
         // given
@@ -197,4 +556,104 @@ class DMakerServiceTest {
         // then
         Assertions.assertEquals(StatusCode.RETIRED, developer.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDeleteDeveloper_already_retired() {
+        defaultDeveloper.setStatusCode(StatusCode.RETIRED);
+        given(developerRepository.findByMemberId("a"))
+                .willReturn(Optional.of(defaultDeveloper));
+
+        DeveloperDetailDto developer = dMakerService.deleteDeveloper("a");
+
+        assertEquals(StatusCode.RETIRED, developer.getStatusCode());
+        verifyNoInteractions(retiredDeveloperRepository, eventPublisher);
+    }
+
+    @Test
+    public void testDeleteDeveloper_archived() {
+        given(developerRepository.findByMemberId("a"))
+                .willReturn(Optional.empty());
+        given(archivedDeveloperRepository.findDeveloperDetailByMemberId("a"))
+                .willReturn(Optional.of(DeveloperDetailDto.builder()
+                        .memberId("a")
+                        .statusCode(StatusCode.RETIRED)
+                        .build()));
+
+        DeveloperDetailDto developer = dMakerService.deleteDeveloper("a");
+
+        assertEquals(StatusCode.RETIRED, developer.getStatusCode());
+        verifyNoInteractions(retiredDeveloperRepository, eventPublisher);
+    }
+
+    private DeveloperMemberStatus getMemberStatus(String memberId, StatusCode statusCode) {
+        return new DeveloperMemberStatus() {
+            @Override
+            public String getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public StatusCode getStatusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public DeveloperLevel getDeveloperLevel() {
+                return DeveloperLevel.JUNIOR;
+            }
+
+            @Override
+            public DeveloperSkillType getDeveloperSkillType() {
+                return DeveloperSkillType.BACK_END;
+            }
+
+            @Override
+            public Integer getExperienceYears() {
+                return 5;
+            }
+        };
+    }
+
+    @Test
+    public void testRetireDevelopers() {
+        // given
+        given(developerRepository.findMemberStatusesForUpdate(any()))
+                .willReturn(Arrays.asList(
+                        getMemberStatus("a", StatusCode.EMPLOYED),
+                        getMemberStatus("b", StatusCode.RETIRED)));
+
+        // when
+        RetireDevelopers.Response response = dMakerService.retireDevelopers(
+                RetireDevelopers.Request.builder()
+                        .memberIds(Arrays.asList("a", "b", "c"))
+                        .build());
+
+        // then
+        assertEquals(Arrays.asList("a"), response.getRetiredMemberIds());
+        assertEquals(Arrays.asList("b"), response.getAlreadyRetiredMemberIds());
+        assertEquals(Arrays.asList("c"), response.getMissingMemberIds());
+        verify(retiredDeveloperRepository, times(1))
+                .insertFromDevelopers(eq(Arrays.asList("a")), eq(StatusCode.EMPLOYED), any());
+        verify(developerRepository, times(1)).updateStatusCodes(
+                eq(Arrays.asList("a")), eq(StatusCode.EMPLOYED), eq(StatusCode.RETIRED), any());
+    }
+
+    @Test
+    public void testRetireDevelopers_filter_matches_too_many() {
+        // given
+        properties.getBulk().setMaxRows(2);
+        given(developerRepository.findMemberIdsByFilter(
+                eq(StatusCode.EMPLOYED), eq(DeveloperLevel.JUNIOR), isNull(), eq(PageRequest.of(0, 3))))
+                .willReturn(Arrays.asList("a", "b", "c"));
+
+        // when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.retireDevelopers(RetireDevelopers.Request.builder()
+                        .developerLevel(DeveloperLevel.JUNIOR)
+                        .build()));
+
+        // then
+        assertEquals(DMakerErrorCode.INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+        verifyNoInteractions(retiredDeveloperRepository);
+    }
+}
@@ -0,0 +1,106 @@
+package com.programming.dmaker.stats;
+
+import com.programming.dmaker.dto.DeveloperStatsDto;
+import com.programming.dmaker.dto.DeveloperStatsRow;
+import com.programming.dmaker.event.DeveloperSnapshot;
+import com.programming.dmaker.type.DeveloperLevel;
+import com.programming.dmaker.type.DeveloperSkillType;
+import com.programming.dmaker.type.StatusCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperStatsTest {
+    private final DeveloperStats developerStats = new DeveloperStats();
+
+    private static DeveloperSnapshot snapshot(DeveloperLevel level, StatusCode statusCode, int experienceYears) {
+        return new DeveloperSnapshot(level, DeveloperSkillType.BACK_END, statusCode, experienceYears);
+    }
+
+    private static DeveloperStatsRow row(DeveloperLevel level, long headcount, long experienceYearsSum) {
+        return new DeveloperStatsRow() {
+            @Override
+            public DeveloperLevel getDeveloperLevel() {
+                return level;
+            }
+
+            @Override
+            public DeveloperSkillType getDeveloperSkillType() {
+                return DeveloperSkillType.BACK_END;
+            }
+
+            @Override
+            public StatusCode getStatusCode() {
+                return StatusCode.EMPLOYED;
+            }
+
+            @Override
+            public Long getHeadcount() {
+                return headcount;
+            }
+
+            @Override
+            public Long getExperienceYearsSum() {
+                return experienceYearsSum;
+            }
+        };
+    }
+
+    @Test
+    void testDeltasMoveDevelopersBetweenCells() {
+        developerStats.add(snapshot(DeveloperLevel.JUNIOR, StatusCode.EMPLOYED, 4));
+        developerStats.add(snapshot(DeveloperLevel.JUNIOR, StatusCode.EMPLOYED, 6));
+
+        developerStats.remove(snapshot(DeveloperLevel.JUNIOR, StatusCode.EMPLOYED, 6));
+        developerStats.add(snapshot(DeveloperLevel.JUNIOR, StatusCode.RETIRED, 6));
+
+        DeveloperStatsDto stats = developerStats.snapshot();
+        assertEquals(2, stats.getHeadcount());
+        assertEquals(5.0, stats.getAverageExperienceYears());
+        assertEquals(2, stats.getCells().size());
+        assertEquals(StatusCode.EMPLOYED, stats.getCells().get(0).getStatusCode());
+        assertEquals(4.0, stats.getCells().get(0).getAverageExperienceYears());
+        assertEquals(StatusCode.RETIRED, stats.getCells().get(1).getStatusCode());
+    }
+
+    @Test
+    void testResetReplacesCountsAndReportsDrift() {
+        developerStats.add(snapshot(DeveloperLevel.JUNIOR, StatusCode.EMPLOYED, 4));
+
+        assertTrue(developerStats.reset(Arrays.asList(
+                row(DeveloperLevel.JUNIOR, 2, 10), row(DeveloperLevel.SENIOR, 1, 15))));
+        assertFalse(developerStats.reset(Arrays.asList(
+                row(DeveloperLevel.JUNIOR, 2, 10), row(DeveloperLevel.SENIOR, 1, 15))));
+
+        DeveloperStatsDto stats = developerStats.snapshot();
+        assertEquals(3, stats.getHeadcount());
+        assertEquals(25.0 / 3, stats.getAverageExperienceYears());
+    }
+
+    @Test
+    void testDeltasDuringRebuildSurviveTheSwap() {
+        developerStats.add(snapshot(DeveloperLevel.JUNIOR, StatusCode.EMPLOYED, 4));
+
+        boolean drifted = developerStats.rebuild(() -> {
+            developerStats.add(snapshot(DeveloperLevel.SENIOR, StatusCode.EMPLOYED, 10));
+            return Collections.singletonList(row(DeveloperLevel.JUNIOR, 1, 4));
+        });
+
+        assertFalse(drifted);
+        assertEquals(2, developerStats.snapshot().getHeadcount());
+        assertEquals(7.0, developerStats.snapshot().getAverageExperienceYears());
+    }
+
+    @Test
+    void testEmptyStats() {
+        developerStats.reset(Collections.emptyList());
+
+        DeveloperStatsDto stats = developerStats.snapshot();
+        assertEquals(0, stats.getHeadcount());
+        assertNull(stats.getAverageExperienceYears());
+        assertTrue(stats.getCells().isEmpty());
+    }
+}